@@ -2,8 +2,12 @@ package com.issuetracker;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
+// R2DBC is configured by ReactiveDataConfig, next to (not instead of) the JPA data source
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
+@EnableScheduling
 public class IssueTrackerApplication {
     public static void main(String[] args) {
         SpringApplication.run(IssueTrackerApplication.class, args);
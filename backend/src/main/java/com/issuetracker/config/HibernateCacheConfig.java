@@ -0,0 +1,92 @@
+package com.issuetracker.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.HibernateMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate second-level cache for the entities read on almost every request: {@code User}
+ * (by id and by email, its natural id) and {@code Project}.
+ *
+ * The regions live in a local Caffeine JCache manager, each bounded in size and expired after
+ * {@code cache.entity.ttl-seconds} as a backstop. Changes made through this node update the cache
+ * on commit; changes made on other nodes arrive as evictions via
+ * {@link com.issuetracker.service.EntityCacheInvalidator}. Hit/miss/put counts per region are
+ * published by {@link HibernateMetrics} ({@code hibernate.second.level.cache.*}).
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    public static final String USER_REGION = "users";
+    public static final String USER_NATURAL_ID_REGION = "users-by-email";
+    public static final String PROJECT_REGION = "projects";
+
+    @Value("${cache.entity.user.max-size:10000}")
+    private long userMaxSize;
+
+    @Value("${cache.entity.project.max-size:10000}")
+    private long projectMaxSize;
+
+    @Value("${cache.entity.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CaffeineCachingProvider provider = (CaffeineCachingProvider) Caching.getCachingProvider(
+            CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+        createRegion(cacheManager, USER_REGION, userMaxSize);
+        createRegion(cacheManager, USER_NATURAL_ID_REGION, userMaxSize);
+        createRegion(cacheManager, PROJECT_REGION, projectMaxSize);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            // A region we didn't define is a mistake, but not one worth failing startup for
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create-warn");
+        };
+    }
+
+    @Bean
+    public MeterBinder hibernateMetrics(EntityManagerFactory entityManagerFactory) {
+        return registry -> new HibernateMetrics(entityManagerFactory.unwrap(SessionFactory.class),
+            "entityManagerFactory", Tags.empty()).bindTo(registry);
+    }
+
+    // The default manager is per JVM: a second application context (as in tests with different
+    // properties) finds the regions already there, and over the same database they are still valid
+    private void createRegion(CacheManager cacheManager, String region, long maxSize) {
+        if (cacheManager.getCache(region) == null) {
+            cacheManager.createCache(region, regionConfig(maxSize));
+        }
+    }
+
+    private CaffeineConfiguration<Object, Object> regionConfig(long maxSize) {
+        CaffeineConfiguration<Object, Object> config = new CaffeineConfiguration<>();
+        config.setMaximumSize(OptionalLong.of(maxSize));
+        config.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(ttlSeconds)));
+        // Hibernate stores its own immutable entries; copying them on every read would only cost time
+        config.setStoreByValue(false);
+        return config;
+    }
+}
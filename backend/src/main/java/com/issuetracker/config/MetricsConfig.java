@@ -0,0 +1,21 @@
+package com.issuetracker.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables {@link io.micrometer.core.annotation.Timed} on Spring beans. The services carry a
+ * class-level {@code @Timed("service.method")}, giving one timer per method (tags {@code class},
+ * {@code method}, {@code exception}); histogram buckets for it, for {@code http.server.requests}
+ * and for the connection pools are switched on in application.properties.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,59 @@
+package com.issuetracker.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+
+/**
+ * R2DBC connection pool for the reactive read API (see ReactiveIssueService), on the same
+ * database as the JPA data source.
+ *
+ * Only the {@link DatabaseClient} is a bean. Spring Boot's DataSource auto-configuration backs off
+ * as soon as there is a ConnectionFactory bean, which would take the JPA write path with it - the
+ * same reason R2dbcAutoConfiguration is excluded on IssueTrackerApplication. The pool shows up as
+ * "reactive" in R2DBC logs; JPA keeps the only transaction manager.
+ */
+@Configuration
+public class ReactiveDataConfig {
+
+    private ConnectionPool pool;
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(
+            @Value("${reactive.r2dbc.url}") String url,
+            @Value("${reactive.r2dbc.username:${spring.datasource.username:}}") String username,
+            @Value("${reactive.r2dbc.password:${spring.datasource.password:}}") String password,
+            @Value("${reactive.r2dbc.pool.max-size:20}") int maxSize,
+            @Value("${reactive.r2dbc.pool.max-idle-ms:1800000}") long maxIdleMs) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (StringUtils.hasText(username)) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (StringUtils.hasText(password)) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options.build()))
+            .name("reactive")
+            .initialSize(0)
+            .maxSize(maxSize)
+            .maxIdleTime(Duration.ofMillis(maxIdleMs))
+            .build());
+        return DatabaseClient.create(pool);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (pool != null) {
+            pool.dispose();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.issuetracker.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Sends connections for {@code @Transactional(readOnly = true)} work to the replica and everything
+ * else to the primary. A thread can be pinned to the primary (read-your-writes, see
+ * {@link com.issuetracker.filter.ReadYourWritesFilter}).
+ *
+ * The routing decision is made when a connection is actually fetched, so this must sit behind a
+ * {@code LazyConnectionDataSourceProxy}: the transaction manager asks for a connection before the
+ * read-only flag of the new transaction is visible here.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private final Counter primaryConnections;
+    private final Counter replicaConnections;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, MeterRegistry meterRegistry) {
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        primaryConnections = Counter.builder("datasource.routing.connections")
+            .tag("target", PRIMARY)
+            .description("Connections handed out by the read/write routing data source")
+            .register(meterRegistry);
+        replicaConnections = Counter.builder("datasource.routing.connections")
+            .tag("target", REPLICA)
+            .description("Connections handed out by the read/write routing data source")
+            .register(meterRegistry);
+    }
+
+    public static void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+    }
+
+    public static void unpin() {
+        PINNED_TO_PRIMARY.remove();
+    }
+
+    /**
+     * Runs {@code work} pinned to the primary, for reads that must see the latest commits. An
+     * existing pin (e.g. from the read-your-writes filter) is left in place.
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        boolean pinned = Boolean.TRUE.equals(PINNED_TO_PRIMARY.get());
+        pinToPrimary();
+        try {
+            return work.get();
+        } finally {
+            if (!pinned) {
+                unpin();
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !Boolean.TRUE.equals(PINNED_TO_PRIMARY.get())) {
+            replicaConnections.increment();
+            return REPLICA;
+        }
+        primaryConnections.increment();
+        return PRIMARY;
+    }
+}
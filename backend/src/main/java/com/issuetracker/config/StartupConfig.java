@@ -0,0 +1,43 @@
+package com.issuetracker.config;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * Keeps background beans eager under {@code spring.main.lazy-initialization=true} (the
+ * fast-startup profile). A lazy bean is only created on first use, so its {@code @Scheduled}
+ * jobs would never be registered and whatever its {@code @PostConstruct} starts (event bus
+ * poller and subscription, SSE dispatcher, WebSocket watchdog, caches, gauges) would wait for the
+ * first request that happens to need it. Everything else - controllers, most services,
+ * repositories - is created on first use.
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter backgroundBeansExcludeFilter() {
+        return (beanName, beanDefinition, beanType) ->
+            beanType != null && hasLifecycleMethod(ClassUtils.getUserClass(beanType));
+    }
+
+    private static boolean hasLifecycleMethod(Class<?> type) {
+        if (!type.getName().startsWith("com.issuetracker.")) {
+            return false;
+        }
+        for (Method method : ReflectionUtils.getUniqueDeclaredMethods(type)) {
+            if (AnnotatedElementUtils.hasAnnotation(method, Scheduled.class)
+                    || method.isAnnotationPresent(PostConstruct.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
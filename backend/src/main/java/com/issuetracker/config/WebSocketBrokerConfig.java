@@ -0,0 +1,28 @@
+package com.issuetracker.config;
+
+import com.issuetracker.websocket.MonitoredSubProtocolWebSocketHandler;
+import com.issuetracker.websocket.WebSocketSessionMonitor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.config.annotation.DelegatingWebSocketMessageBrokerConfiguration;
+
+/**
+ * What {@code @EnableWebSocketMessageBroker} imports, except that the STOMP handler decorates sessions
+ * through the {@link WebSocketSessionMonitor}. The broker itself is still configured in {@link WebSocketConfig}.
+ */
+@Configuration(proxyBeanMethods = false)
+public class WebSocketBrokerConfig extends DelegatingWebSocketMessageBrokerConfiguration {
+
+    @Autowired
+    private WebSocketSessionMonitor sessionMonitor;
+
+    @Bean
+    @Override
+    public WebSocketHandler subProtocolWebSocketHandler(AbstractSubscribableChannel clientInboundChannel,
+                                                        AbstractSubscribableChannel clientOutboundChannel) {
+        return new MonitoredSubProtocolWebSocketHandler(clientInboundChannel, clientOutboundChannel, sessionMonitor);
+    }
+}
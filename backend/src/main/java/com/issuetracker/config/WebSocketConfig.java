@@ -1,25 +1,146 @@
 package com.issuetracker.config;
 
+import com.issuetracker.websocket.CompactEncodingInterceptor;
+import com.issuetracker.websocket.DeflateHandshakeHandler;
+import com.issuetracker.websocket.NativeTransportHandshakeInterceptor;
+import com.issuetracker.websocket.StompAuthenticationInterceptor;
+import com.issuetracker.websocket.StompMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
-import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+// The broker configuration itself is imported by WebSocketBrokerConfig rather than @EnableWebSocketMessageBroker
 @Configuration
-@EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
-    
+
+    @Autowired
+    private CompactEncodingInterceptor compactEncodingInterceptor;
+
+    @Autowired
+    private StompAuthenticationInterceptor stompAuthenticationInterceptor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${websocket.permessage-deflate.enabled:true}")
+    private boolean permessageDeflateEnabled;
+
+    @Value("${websocket.inbound.core-pool-size:4}")
+    private int inboundCorePoolSize;
+
+    @Value("${websocket.inbound.max-pool-size:16}")
+    private int inboundMaxPoolSize;
+
+    @Value("${websocket.inbound.queue-capacity:1000}")
+    private int inboundQueueCapacity;
+
+    @Value("${websocket.outbound.core-pool-size:4}")
+    private int outboundCorePoolSize;
+
+    @Value("${websocket.outbound.max-pool-size:16}")
+    private int outboundMaxPoolSize;
+
+    @Value("${websocket.outbound.queue-capacity:10000}")
+    private int outboundQueueCapacity;
+
+    @Value("${websocket.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    @Value("${websocket.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${websocket.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+
+    @Value("${websocket.virtual-threads.max-concurrency:256}")
+    private int virtualMaxConcurrency;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         config.enableSimpleBroker("/topic");
         config.setApplicationDestinationPrefixes("/app");
+        // Per-session ordering: a topic SUBSCRIBE is registered before a following snapshot SUBSCRIBE
+        // is handled, and events reach each client in sequence order
+        config.setPreserveReceiveOrder(true);
+        config.setPreservePublishOrder(true);
     }
-    
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
+        DeflateHandshakeHandler handshakeHandler = new DeflateHandshakeHandler(permessageDeflateEnabled);
         registry.addEndpoint("/ws")
+                .setHandshakeHandler(handshakeHandler)
                 .setAllowedOrigins("http://localhost:4200")
                 .withSockJS();
+        // Plain WebSocket endpoint for clients that want binary (compact) frames
+        registry.addEndpoint("/ws-native")
+                .setHandshakeHandler(handshakeHandler)
+                .addInterceptors(new NativeTransportHandshakeInterceptor())
+                .setAllowedOrigins("http://localhost:4200");
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            registration.taskExecutor(virtualThreadExecutor("stomp-inbound-"))
+                    .corePoolSize(virtualMaxConcurrency)
+                    .maxPoolSize(virtualMaxConcurrency)
+                    .queueCapacity(inboundQueueCapacity);
+        } else {
+            registration.taskExecutor()
+                    .corePoolSize(inboundCorePoolSize)
+                    .maxPoolSize(inboundMaxPoolSize)
+                    .queueCapacity(inboundQueueCapacity);
+        }
+        registration.interceptors(new StompMetricsInterceptor(meterRegistry, "inbound"),
+                stompAuthenticationInterceptor, compactEncodingInterceptor);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            registration.taskExecutor(virtualThreadExecutor("stomp-outbound-"))
+                    .corePoolSize(virtualMaxConcurrency)
+                    .maxPoolSize(virtualMaxConcurrency)
+                    .queueCapacity(outboundQueueCapacity);
+        } else {
+            registration.taskExecutor()
+                    .corePoolSize(outboundCorePoolSize)
+                    .maxPoolSize(outboundMaxPoolSize)
+                    .queueCapacity(outboundQueueCapacity);
+        }
+        registration.interceptors(compactEncodingInterceptor, new StompMetricsInterceptor(meterRegistry, "outbound"));
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // Applied by Spring's ConcurrentWebSocketSessionDecorator, the only send buffer per session;
+        // what happens on overflow is websocket.slow-consumer-policy (see WebSocketSessionMonitor)
+        registration.setMessageSizeLimit(messageSizeLimit)
+                .setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit);
+    }
+
+    // With spring.threads.virtual.enabled on JDK 21: the channels only take a ThreadPoolTaskExecutor,
+    // so its threads are virtual and time out when idle. The pool size now only caps how many
+    // messages are handled at once (blocking in a handler no longer holds a platform thread)
+    private static ThreadPoolTaskExecutor virtualThreadExecutor(String threadNamePrefix) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadFactory(new VirtualThreadTaskExecutor(threadNamePrefix).getVirtualThreadFactory());
+        executor.setAllowCoreThreadTimeOut(true);
+        return executor;
     }
 }
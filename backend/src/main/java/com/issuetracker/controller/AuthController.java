@@ -4,8 +4,14 @@ import com.issuetracker.dto.AuthRequest;
 import com.issuetracker.dto.AuthResponse;
 import com.issuetracker.dto.SignupRequest;
 import com.issuetracker.service.AuthService;
+import com.issuetracker.service.PasswordHashingBusyException;
+import com.issuetracker.service.TokenRevocationService;
+import com.issuetracker.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -18,11 +24,19 @@ public class AuthController {
     @Autowired
     private AuthService authService;
     
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+    
+    @Autowired
+    private JwtUtil jwtUtil;
+    
     @PostMapping("/signup")
     public ResponseEntity<?> signup(@Valid @RequestBody SignupRequest signupRequest) {
         try {
             AuthResponse response = authService.signup(signupRequest);
             return ResponseEntity.ok(response);
+        } catch (PasswordHashingBusyException e) {
+            return tooManyRequests(e);
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(new ErrorResponse(e.getMessage()));
@@ -34,12 +48,41 @@ public class AuthController {
         try {
             AuthResponse response = authService.login(authRequest);
             return ResponseEntity.ok(response);
+        } catch (PasswordHashingBusyException e) {
+            return tooManyRequests(e);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                 .body(new ErrorResponse("Invalid email or password"));
         }
     }
     
+    /**
+     * Revokes the bearer token of this request. It is rejected on every node from then on, even
+     * though it has not expired. Tokens without a jti claim are revoked by digest.
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse("Missing bearer token"));
+        }
+        try {
+            String token = authorization.substring(7);
+            Claims claims = jwtUtil.parseClaims(token);
+            tokenRevocationService.revoke(JwtUtil.revocationId(claims, token), claims.getExpiration());
+            return ResponseEntity.noContent().build();
+        } catch (JwtException e) {
+            // Invalid or expired tokens are unusable already
+            return ResponseEntity.noContent().build();
+        }
+    }
+    
+    private ResponseEntity<?> tooManyRequests(PasswordHashingBusyException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(new ErrorResponse(e.getMessage()));
+    }
+    
     private static class ErrorResponse {
         private String message;
         
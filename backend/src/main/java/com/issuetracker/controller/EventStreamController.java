@@ -0,0 +1,57 @@
+package com.issuetracker.controller;
+
+import com.issuetracker.dto.StreamTokenResponse;
+import com.issuetracker.service.CurrentUserService;
+import com.issuetracker.service.EventStreamService;
+import com.issuetracker.util.JwtUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/events")
+@CrossOrigin(origins = "http://localhost:4200")
+public class EventStreamController {
+
+    @Autowired
+    private EventStreamService eventStreamService;
+
+    @Autowired
+    private CurrentUserService currentUserService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    /**
+     * Authenticated with the bearer token, or with {@code ?token=} from {@link #streamToken} for
+     * browsers (see JwtAuthenticationFilter).
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(
+            @RequestParam(required = false) Long projectId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @RequestParam(required = false) Long lastEventId) {
+        // Browsers send Last-Event-ID on reconnect; the query param is for clients that can't set headers
+        Long resumeFrom = lastEventId;
+        if (lastEventIdHeader != null && !lastEventIdHeader.isBlank()) {
+            try {
+                resumeFrom = Long.parseLong(lastEventIdHeader.trim());
+            } catch (NumberFormatException e) {
+                // Not one of our ids - treat as a fresh subscription
+            }
+        }
+        return eventStreamService.subscribe(projectId, resumeFrom);
+    }
+
+    /**
+     * Issues a short-lived token that opens {@code GET /api/events?token=...}. It is only checked
+     * when the stream is opened, so a browser fetches a new one before each (re)connect.
+     */
+    @PostMapping("/token")
+    public ResponseEntity<StreamTokenResponse> streamToken() {
+        String token = jwtUtil.generateStreamToken(currentUserService.getCurrentUser());
+        return ResponseEntity.ok(new StreamTokenResponse(token, jwtUtil.getStreamTokenExpiration()));
+    }
+}
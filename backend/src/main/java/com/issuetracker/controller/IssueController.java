@@ -6,6 +6,7 @@ import com.issuetracker.dto.PageResponse;
 import com.issuetracker.model.IssuePriority;
 import com.issuetracker.model.IssueStatus;
 import com.issuetracker.service.IssueService;
+import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -66,6 +67,9 @@ public class IssueController {
         try {
             IssueDto issue = issueService.updateIssue(id, request);
             return ResponseEntity.ok(issue);
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(new ErrorResponse(e.getMessage()));
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(new ErrorResponse(e.getMessage()));
@@ -77,6 +81,9 @@ public class IssueController {
         try {
             issueService.deleteIssue(id);
             return ResponseEntity.noContent().build();
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(new ErrorResponse(e.getMessage()));
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(new ErrorResponse(e.getMessage()));
@@ -0,0 +1,25 @@
+package com.issuetracker.controller;
+
+import com.issuetracker.dto.IssueSnapshot;
+import com.issuetracker.service.IssueSnapshotService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+/**
+ * STOMP snapshot for the issue detail view. Clients subscribe to {@code /topic/issues/{id}/comments}
+ * and {@code /topic/issues/{id}/activities} first and then to {@code /app/issues/{id}/snapshot};
+ * the reply goes only to the subscribing session.
+ */
+@Controller
+public class IssueSnapshotController {
+    
+    @Autowired
+    private IssueSnapshotService issueSnapshotService;
+    
+    @SubscribeMapping("/issues/{issueId}/snapshot")
+    public IssueSnapshot getSnapshot(@DestinationVariable Long issueId) {
+        return issueSnapshotService.getSnapshot(issueId);
+    }
+}
@@ -1,16 +1,20 @@
 package com.issuetracker.controller;
 
 import com.issuetracker.dto.CreateProjectRequest;
+import com.issuetracker.dto.PageResponse;
+import com.issuetracker.dto.ProjectDeletionDto;
 import com.issuetracker.dto.ProjectDto;
 import com.issuetracker.service.ProjectService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.List;
 
 @RestController
@@ -33,13 +37,30 @@ public class ProjectController {
         }
     }
     
+    /**
+     * Without paging parameters returns the full list (as before). With {@code page}/{@code size}
+     * returns a {@link PageResponse}; with {@code cursor} (a previous page's {@code nextCursor})
+     * returns the following page by keyset, without totals.
+     */
     @GetMapping
-    public ResponseEntity<List<ProjectDto>> getAllProjects(
+    public ResponseEntity<?> getAllProjects(
             @RequestParam(required = false) String sortBy,
             @RequestParam(required = false) String sortDir,
-            @RequestParam(required = false) String searchText) {
-        List<ProjectDto> projects = projectService.getAllProjects(sortBy, sortDir, searchText);
-        return ResponseEntity.ok(projects);
+            @RequestParam(required = false) String searchText,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String cursor) {
+        if (page == null && size == null && cursor == null) {
+            List<ProjectDto> projects = projectService.getAllProjects(sortBy, sortDir, searchText);
+            return ResponseEntity.ok(projects);
+        }
+        try {
+            PageResponse<ProjectDto> projects = projectService.getProjects(sortBy, sortDir, searchText, page, size, cursor);
+            return ResponseEntity.ok(projects);
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse(e.getMessage()));
+        }
     }
     
     @GetMapping("/{id}")
@@ -67,18 +88,39 @@ public class ProjectController {
         }
     }
     
+    /**
+     * Hides the project immediately and deletes its contents in the background; responds 202
+     * with the deletion progress, which can be polled at {@code /api/projects/{id}/deletion}.
+     */
     @DeleteMapping("/{id}")
     public ResponseEntity<?> deleteProject(@PathVariable Long id, Authentication authentication) {
         try {
             String email = ((UserDetails) authentication.getPrincipal()).getUsername();
-            projectService.deleteProject(id, email);
-            return ResponseEntity.noContent().build();
+            ProjectDeletionDto deletion = projectService.deleteProject(id, email);
+            return ResponseEntity.accepted()
+                .location(URI.create("/api/projects/" + id + "/deletion"))
+                .body(deletion);
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(new ErrorResponse(e.getMessage()));
         }
     }
     
+    @GetMapping("/{id}/deletion")
+    public ResponseEntity<?> getDeletionProgress(@PathVariable Long id, Authentication authentication) {
+        try {
+            String email = ((UserDetails) authentication.getPrincipal()).getUsername();
+            ProjectDeletionDto deletion = projectService.getDeletionProgress(id, email);
+            return ResponseEntity.ok(deletion);
+        } catch (AccessDeniedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(new ErrorResponse(e.getMessage()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(new ErrorResponse(e.getMessage()));
+        }
+    }
+    
     private static class ErrorResponse {
         private String message;
         
@@ -0,0 +1,64 @@
+package com.issuetracker.controller;
+
+import com.issuetracker.dto.IssueDto;
+import com.issuetracker.model.IssuePriority;
+import com.issuetracker.model.IssueStatus;
+import com.issuetracker.service.ReactiveIssueService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Read-only issue endpoints backed by R2DBC, with the parameters of {@link IssueController}.
+ * With {@code Accept: application/x-ndjson} the list is streamed one issue per line, each written
+ * before the next row is requested; with JSON it is a plain array (no page metadata).
+ */
+@RestController
+@RequestMapping("/api/reactive/issues")
+@CrossOrigin(origins = "http://localhost:4200")
+public class ReactiveIssueController {
+
+    @Autowired
+    private ReactiveIssueService reactiveIssueService;
+
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Flux<IssueDto> getIssues(
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(required = false) String sortDir,
+            @RequestParam(required = false) IssueStatus status,
+            @RequestParam(required = false) IssuePriority priority,
+            @RequestParam(required = false) Long assigneeId,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) String searchText
+    ) {
+        return reactiveIssueService.getIssues(
+            page, size, sortBy, sortDir, status, priority, assigneeId, projectId, searchText
+        );
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<?>> getIssueById(@PathVariable Long id) {
+        return reactiveIssueService.getIssueById(id)
+            .<ResponseEntity<?>>map(ResponseEntity::ok)
+            .defaultIfEmpty(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(new ErrorResponse("Issue not found")));
+    }
+
+    private static class ErrorResponse {
+        private String message;
+
+        public ErrorResponse(String message) {
+            this.message = message;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
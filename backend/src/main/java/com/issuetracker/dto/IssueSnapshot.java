@@ -0,0 +1,69 @@
+package com.issuetracker.dto;
+
+/**
+ * Initial state for an issue detail view, sent in reply to a subscription to
+ * {@code /app/issues/{issueId}/snapshot}.
+ *
+ * {@code sequence} is the last event sequence delivered before the snapshot was read. Live events
+ * carry their sequence in the {@code event-seq} header; clients apply only those with a higher
+ * sequence. {@code issue} is null when the issue does not exist.
+ */
+public class IssueSnapshot {
+    private Long issueId;
+    private IssueDto issue;
+    private PageResponse<CommentDto> comments;
+    private PageResponse<ActivityLogDto> activities;
+    private long sequence;
+    
+    public IssueSnapshot() {}
+    
+    public IssueSnapshot(Long issueId, IssueDto issue, PageResponse<CommentDto> comments,
+                         PageResponse<ActivityLogDto> activities, long sequence) {
+        this.issueId = issueId;
+        this.issue = issue;
+        this.comments = comments;
+        this.activities = activities;
+        this.sequence = sequence;
+    }
+    
+    // Getters and Setters
+    public Long getIssueId() {
+        return issueId;
+    }
+    
+    public void setIssueId(Long issueId) {
+        this.issueId = issueId;
+    }
+    
+    public IssueDto getIssue() {
+        return issue;
+    }
+    
+    public void setIssue(IssueDto issue) {
+        this.issue = issue;
+    }
+    
+    public PageResponse<CommentDto> getComments() {
+        return comments;
+    }
+    
+    public void setComments(PageResponse<CommentDto> comments) {
+        this.comments = comments;
+    }
+    
+    public PageResponse<ActivityLogDto> getActivities() {
+        return activities;
+    }
+    
+    public void setActivities(PageResponse<ActivityLogDto> activities) {
+        this.activities = activities;
+    }
+    
+    public long getSequence() {
+        return sequence;
+    }
+    
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+}
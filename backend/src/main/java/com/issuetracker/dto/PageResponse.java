@@ -9,6 +9,7 @@ public class PageResponse<T> {
     private long totalElements;
     private int totalPages;
     private boolean last;
+    private String nextCursor; // Opaque keyset cursor for the next page, where supported
     
     public PageResponse() {}
     
@@ -69,4 +70,12 @@ public class PageResponse<T> {
     public void setLast(boolean last) {
         this.last = last;
     }
+    
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
 }
@@ -0,0 +1,24 @@
+package com.issuetracker.dto;
+
+/**
+ * Internal bus event: the project was updated or deleted, so every node must drop it from
+ * its second-level cache.
+ */
+public class ProjectChangedEvent {
+    private Long projectId;
+    
+    public ProjectChangedEvent() {}
+    
+    public ProjectChangedEvent(Long projectId) {
+        this.projectId = projectId;
+    }
+    
+    // Getters and Setters
+    public Long getProjectId() {
+        return projectId;
+    }
+    
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+}
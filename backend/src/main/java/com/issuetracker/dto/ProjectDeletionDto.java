@@ -0,0 +1,116 @@
+package com.issuetracker.dto;
+
+import com.issuetracker.model.ProjectDeletionStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of a project deletion, returned by {@code DELETE /api/projects/{id}} and
+ * {@code GET /api/projects/{id}/deletion}.
+ */
+public class ProjectDeletionDto {
+    private Long projectId;
+    private String projectName;
+    private ProjectDeletionStatus status;
+    private long issuesTotal;
+    private long issuesDeleted;
+    private long commentsDeleted;
+    private long activityLogsDeleted;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+    
+    public ProjectDeletionDto() {}
+    
+    public int getPercentComplete() {
+        if (status == ProjectDeletionStatus.COMPLETED) {
+            return 100;
+        }
+        if (issuesTotal <= 0) {
+            return 0;
+        }
+        // Issues created after the count are deleted too, so don't report 100 before completion
+        return (int) Math.min(99, issuesDeleted * 100 / issuesTotal);
+    }
+    
+    // Getters and Setters
+    public Long getProjectId() {
+        return projectId;
+    }
+    
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+    
+    public String getProjectName() {
+        return projectName;
+    }
+    
+    public void setProjectName(String projectName) {
+        this.projectName = projectName;
+    }
+    
+    public ProjectDeletionStatus getStatus() {
+        return status;
+    }
+    
+    public void setStatus(ProjectDeletionStatus status) {
+        this.status = status;
+    }
+    
+    public long getIssuesTotal() {
+        return issuesTotal;
+    }
+    
+    public void setIssuesTotal(long issuesTotal) {
+        this.issuesTotal = issuesTotal;
+    }
+    
+    public long getIssuesDeleted() {
+        return issuesDeleted;
+    }
+    
+    public void setIssuesDeleted(long issuesDeleted) {
+        this.issuesDeleted = issuesDeleted;
+    }
+    
+    public long getCommentsDeleted() {
+        return commentsDeleted;
+    }
+    
+    public void setCommentsDeleted(long commentsDeleted) {
+        this.commentsDeleted = commentsDeleted;
+    }
+    
+    public long getActivityLogsDeleted() {
+        return activityLogsDeleted;
+    }
+    
+    public void setActivityLogsDeleted(long activityLogsDeleted) {
+        this.activityLogsDeleted = activityLogsDeleted;
+    }
+    
+    public String getLastError() {
+        return lastError;
+    }
+    
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+    
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+}
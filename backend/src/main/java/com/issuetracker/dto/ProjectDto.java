@@ -9,6 +9,7 @@ public class ProjectDto {
     private String ownerName;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private ProjectStatsDto stats;
     
     public ProjectDto() {}
     
@@ -21,6 +22,13 @@ public class ProjectDto {
         this.updatedAt = updatedAt;
     }
     
+    // Used by the list projection, which joins project_stats (counts are 0 when it has no row)
+    public ProjectDto(Long id, String name, Long ownerId, String ownerName, LocalDateTime createdAt, LocalDateTime updatedAt,
+                      Long open, Long inProgress, Long closed, Long low, Long medium, Long high, Long critical) {
+        this(id, name, ownerId, ownerName, createdAt, updatedAt);
+        this.stats = new ProjectStatsDto(open, inProgress, closed, low, medium, high, critical);
+    }
+    
     // Getters and Setters
     public Long getId() {
         return id;
@@ -69,4 +77,12 @@ public class ProjectDto {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+    
+    public ProjectStatsDto getStats() {
+        return stats;
+    }
+    
+    public void setStats(ProjectStatsDto stats) {
+        this.stats = stats;
+    }
 }
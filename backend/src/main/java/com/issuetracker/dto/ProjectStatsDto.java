@@ -0,0 +1,87 @@
+package com.issuetracker.dto;
+
+/**
+ * Issue counts of a project, by status and by priority.
+ */
+public class ProjectStatsDto {
+    private long open;
+    private long inProgress;
+    private long closed;
+    private long low;
+    private long medium;
+    private long high;
+    private long critical;
+
+    public ProjectStatsDto() {}
+
+    public ProjectStatsDto(long open, long inProgress, long closed, long low, long medium, long high, long critical) {
+        this.open = open;
+        this.inProgress = inProgress;
+        this.closed = closed;
+        this.low = low;
+        this.medium = medium;
+        this.high = high;
+        this.critical = critical;
+    }
+
+    public long getTotal() {
+        return open + inProgress + closed;
+    }
+
+    // Getters and Setters
+    public long getOpen() {
+        return open;
+    }
+
+    public void setOpen(long open) {
+        this.open = open;
+    }
+
+    public long getInProgress() {
+        return inProgress;
+    }
+
+    public void setInProgress(long inProgress) {
+        this.inProgress = inProgress;
+    }
+
+    public long getClosed() {
+        return closed;
+    }
+
+    public void setClosed(long closed) {
+        this.closed = closed;
+    }
+
+    public long getLow() {
+        return low;
+    }
+
+    public void setLow(long low) {
+        this.low = low;
+    }
+
+    public long getMedium() {
+        return medium;
+    }
+
+    public void setMedium(long medium) {
+        this.medium = medium;
+    }
+
+    public long getHigh() {
+        return high;
+    }
+
+    public void setHigh(long high) {
+        this.high = high;
+    }
+
+    public long getCritical() {
+        return critical;
+    }
+
+    public void setCritical(long critical) {
+        this.critical = critical;
+    }
+}
@@ -0,0 +1,34 @@
+package com.issuetracker.dto;
+
+/**
+ * Short-lived token for {@code GET /api/events?token=}, for clients (EventSource) that cannot send
+ * an Authorization header.
+ */
+public class StreamTokenResponse {
+    private String token;
+    private long expiresInMs;
+    
+    public StreamTokenResponse() {}
+    
+    public StreamTokenResponse(String token, long expiresInMs) {
+        this.token = token;
+        this.expiresInMs = expiresInMs;
+    }
+    
+    // Getters and Setters
+    public String getToken() {
+        return token;
+    }
+    
+    public void setToken(String token) {
+        this.token = token;
+    }
+    
+    public long getExpiresInMs() {
+        return expiresInMs;
+    }
+    
+    public void setExpiresInMs(long expiresInMs) {
+        this.expiresInMs = expiresInMs;
+    }
+}
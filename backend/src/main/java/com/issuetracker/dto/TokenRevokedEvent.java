@@ -0,0 +1,23 @@
+package com.issuetracker.dto;
+
+/**
+ * Internal bus event: the token with this id was revoked, so every node adds it to its filter.
+ */
+public class TokenRevokedEvent {
+    private String jti;
+    
+    public TokenRevokedEvent() {}
+    
+    public TokenRevokedEvent(String jti) {
+        this.jti = jti;
+    }
+    
+    // Getters and Setters
+    public String getJti() {
+        return jti;
+    }
+    
+    public void setJti(String jti) {
+        this.jti = jti;
+    }
+}
@@ -0,0 +1,39 @@
+package com.issuetracker.dto;
+
+/**
+ * Internal bus event: the account with this email was created or changed, so cached
+ * principals (and the cached {@code User} entity, when {@code userId} is set) must be dropped
+ * on every node.
+ */
+public class UserChangedEvent {
+    private String email;
+    private Long userId;
+    
+    public UserChangedEvent() {}
+    
+    public UserChangedEvent(String email) {
+        this.email = email;
+    }
+    
+    public UserChangedEvent(String email, Long userId) {
+        this.email = email;
+        this.userId = userId;
+    }
+    
+    // Getters and Setters
+    public String getEmail() {
+        return email;
+    }
+    
+    public void setEmail(String email) {
+        this.email = email;
+    }
+    
+    public Long getUserId() {
+        return userId;
+    }
+    
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+}
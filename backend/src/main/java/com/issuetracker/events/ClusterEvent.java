@@ -0,0 +1,54 @@
+package com.issuetracker.events;
+
+import java.util.UUID;
+
+/**
+ * A real-time event as carried by the {@link EventBus}: the STOMP destination it is published to,
+ * the project it belongs to and the event payload (one of the *UpdateEvent DTOs).
+ *
+ * The sequence is assigned by the bus and is the same on every node, so it can be used as an
+ * SSE event id or a snapshot watermark.
+ */
+public class ClusterEvent {
+    private final String eventId;
+    private final String destination;
+    private final Long projectId;
+    private final Object payload;
+    private long sequence;
+
+    public ClusterEvent(String destination, Long projectId, Object payload) {
+        this(UUID.randomUUID().toString(), destination, projectId, payload, 0);
+    }
+
+    public ClusterEvent(String eventId, String destination, Long projectId, Object payload, long sequence) {
+        this.eventId = eventId;
+        this.destination = destination;
+        this.projectId = projectId;
+        this.payload = payload;
+        this.sequence = sequence;
+    }
+
+    public String getEventId() {
+        return eventId;
+    }
+
+    public String getDestination() {
+        return destination;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public Object getPayload() {
+        return payload;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+}
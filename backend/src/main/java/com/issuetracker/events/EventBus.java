@@ -0,0 +1,20 @@
+package com.issuetracker.events;
+
+import java.util.function.Consumer;
+
+/**
+ * Fan-out of real-time events to every backend node. Each node subscribes once and delivers the
+ * events it receives to its own STOMP/SSE clients, so a write on any node reaches every client.
+ *
+ * Selected with {@code events.bus.type}: {@code memory} (single node, default) or {@code jdbc}.
+ */
+public interface EventBus {
+
+    void publish(ClusterEvent event);
+
+    /**
+     * Registers a listener for events from all nodes, including this one. Listeners are called
+     * in sequence order, one event at a time.
+     */
+    void subscribe(Consumer<ClusterEvent> listener);
+}
@@ -0,0 +1,70 @@
+package com.issuetracker.events;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Single-JVM bus. Used for development, tests and single-node deployments.
+ *
+ * Publishing only assigns the sequence and queues the event under a short lock. Whichever publisher
+ * finds no delivery in progress delivers the queue in order; concurrent publishers return at once
+ * and their events are delivered by that thread, so publishers never wait on each other's listeners.
+ * Without contention an event is delivered synchronously on the publishing thread.
+ */
+@Component
+@ConditionalOnProperty(name = "events.bus.type", havingValue = "memory", matchIfMissing = true)
+public class InMemoryEventBus implements EventBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryEventBus.class);
+
+    private final List<Consumer<ClusterEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    // Guarded by itself
+    private final Queue<ClusterEvent> pending = new ArrayDeque<>();
+    private long sequence;
+    private boolean delivering;
+
+    @Override
+    public void publish(ClusterEvent event) {
+        synchronized (pending) {
+            event.setSequence(++sequence);
+            pending.add(event);
+            if (delivering) {
+                return;
+            }
+            delivering = true;
+        }
+
+        while (true) {
+            ClusterEvent next;
+            synchronized (pending) {
+                next = pending.poll();
+                if (next == null) {
+                    delivering = false;
+                    return;
+                }
+            }
+            for (Consumer<ClusterEvent> listener : listeners) {
+                try {
+                    listener.accept(next);
+                } catch (RuntimeException e) {
+                    // Must not escape: the queue would stay marked as delivering
+                    logger.warn("Event listener failed for {}", next.getDestination(), e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<ClusterEvent> listener) {
+        listeners.add(listener);
+    }
+}
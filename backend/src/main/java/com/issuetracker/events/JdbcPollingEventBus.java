@@ -0,0 +1,256 @@
+package com.issuetracker.events;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Cross-node bus backed by the {@code cluster_events} table. Works on H2 and PostgreSQL.
+ *
+ * Each node batches its outgoing events into one multi-row insert per flush interval and reads
+ * new rows with one indexed range query per poll interval, so the database load per node stays
+ * constant no matter how many nodes or subscribers there are. Every node (including the writer)
+ * delivers from the poll, which gives all nodes the same order and the same sequence numbers.
+ *
+ * Identity values can become visible out of order when inserts from different nodes commit
+ * concurrently. Skipped ids are re-queried for up to the gap timeout, and rows above an open gap
+ * are held back until the gap is filled or its deadline passes, so listeners always see ascending
+ * sequence numbers. Event ids are de-duplicated so a row is never delivered twice.
+ */
+@Component
+@ConditionalOnProperty(name = "events.bus.type", havingValue = "jdbc")
+public class JdbcPollingEventBus implements EventBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcPollingEventBus.class);
+
+    private static final String PAYLOAD_PACKAGE = "com.issuetracker.dto.";
+
+    private static final String INSERT_SQL =
+        "INSERT INTO cluster_events (event_id, origin_node, destination, project_id, payload_type, payload, created_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_COLUMNS =
+        "SELECT id, event_id, destination, project_id, payload_type, payload FROM cluster_events ";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${events.bus.jdbc.flush-interval-ms:50}")
+    private long flushIntervalMs;
+
+    @Value("${events.bus.jdbc.poll-interval-ms:200}")
+    private long pollIntervalMs;
+
+    @Value("${events.bus.jdbc.batch-size:500}")
+    private int batchSize;
+
+    @Value("${events.bus.jdbc.gap-timeout-ms:5000}")
+    private long gapTimeoutMs;
+
+    @Value("${events.bus.jdbc.retention-minutes:60}")
+    private long retentionMinutes;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final ConcurrentLinkedQueue<PendingRow> outbox = new ConcurrentLinkedQueue<>();
+
+    private final List<Consumer<ClusterEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    // The fields below are only touched from the bus thread
+    private long lastId;
+    private final TreeMap<Long, Long> gapDeadlines = new TreeMap<>();
+    private final TreeMap<Long, ClusterEvent> held = new TreeMap<>();
+    private final Set<String> recentEventIds = Collections.newSetFromMap(new LinkedHashMap<String, Boolean>(16, 0.75f, false) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > 10_000;
+        }
+    });
+
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    void start() {
+        // Start from the tail - events published before this node came up are not replayed
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM cluster_events", Long.class);
+        lastId = maxId != null ? maxId : 0;
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "event-bus-jdbc");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(guard(this::flush), flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(guard(this::poll), pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(guard(this::purge), 1, 1, TimeUnit.MINUTES);
+        logger.info("JDBC event bus started on node {} at event id {}", nodeId, lastId);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    @Override
+    public void publish(ClusterEvent event) {
+        try {
+            outbox.add(new PendingRow(event, objectMapper.writeValueAsString(event.getPayload())));
+        } catch (JsonProcessingException e) {
+            logger.error("Could not serialize event for {}", event.getDestination(), e);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<ClusterEvent> listener) {
+        listeners.add(listener);
+    }
+
+    private void flush() {
+        while (!outbox.isEmpty()) {
+            List<PendingRow> batch = new ArrayList<>(Math.min(batchSize, outbox.size()));
+            PendingRow row;
+            while (batch.size() < batchSize && (row = outbox.poll()) != null) {
+                batch.add(row);
+            }
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, pending) -> {
+                ClusterEvent event = pending.event;
+                ps.setString(1, event.getEventId());
+                ps.setString(2, nodeId);
+                ps.setString(3, event.getDestination());
+                ps.setObject(4, event.getProjectId());
+                ps.setString(5, event.getPayload().getClass().getName());
+                ps.setString(6, pending.json);
+                ps.setTimestamp(7, now);
+            });
+        }
+    }
+
+    private void poll() {
+        List<ClusterEvent> rows = new ArrayList<>(
+            jdbcTemplate.query(SELECT_COLUMNS + "WHERE id > ? ORDER BY id LIMIT ?", this::mapRow, lastId, batchSize));
+        if (!gapDeadlines.isEmpty()) {
+            String placeholders = gapDeadlines.keySet().stream().map(id -> "?").collect(Collectors.joining(","));
+            rows.addAll(jdbcTemplate.query(SELECT_COLUMNS + "WHERE id IN (" + placeholders + ") ORDER BY id",
+                this::mapRow, gapDeadlines.keySet().toArray()));
+        }
+
+        long now = System.currentTimeMillis();
+        for (ClusterEvent row : rows) {
+            long id = row.getSequence();
+            if (id > lastId) {
+                // Remember ids we skipped over; a slower transaction may still commit them
+                for (long missing = lastId + 1; missing < id && gapDeadlines.size() < batchSize; missing++) {
+                    gapDeadlines.put(missing, now + gapTimeoutMs);
+                }
+                lastId = id;
+            }
+            gapDeadlines.remove(id);
+            held.put(id, row);
+        }
+        // An id still missing after its deadline was rolled back or lost; stop waiting for it
+        gapDeadlines.values().removeIf(deadline -> deadline <= now);
+
+        // Deliver in id order up to the first open gap; the rest waits for the next poll
+        while (!held.isEmpty() && (gapDeadlines.isEmpty() || held.firstKey() < gapDeadlines.firstKey())) {
+            ClusterEvent event = held.pollFirstEntry().getValue();
+            if (recentEventIds.add(event.getEventId())) {
+                deliver(event);
+            }
+        }
+    }
+
+    private void purge() {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusMinutes(retentionMinutes));
+        jdbcTemplate.update("DELETE FROM cluster_events WHERE created_at < ?", cutoff);
+    }
+
+    private void deliver(ClusterEvent event) {
+        for (Consumer<ClusterEvent> listener : listeners) {
+            try {
+                listener.accept(event);
+            } catch (Exception e) {
+                logger.warn("Event listener failed for {}", event.getDestination(), e);
+            }
+        }
+    }
+
+    private ClusterEvent mapRow(ResultSet rs, int rowNum) throws SQLException {
+        String payloadType = rs.getString("payload_type");
+        Object payload;
+        try {
+            if (!payloadType.startsWith(PAYLOAD_PACKAGE)) {
+                throw new IllegalArgumentException("Unexpected payload type " + payloadType);
+            }
+            payload = objectMapper.readValue(rs.getString("payload"), Class.forName(payloadType));
+        } catch (Exception e) {
+            throw new SQLException("Could not read cluster event " + rs.getLong("id"), e);
+        }
+        long projectIdValue = rs.getLong("project_id");
+        Long projectId = rs.wasNull() ? null : projectIdValue;
+        return new ClusterEvent(
+            rs.getString("event_id"),
+            rs.getString("destination"),
+            projectId,
+            payload,
+            rs.getLong("id"));
+    }
+
+    private Runnable guard(Runnable task) {
+        return () -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                // Keep the schedule alive; the next run retries
+                logger.warn("JDBC event bus task failed", e);
+            }
+        };
+    }
+
+    private static final class PendingRow {
+        private final ClusterEvent event;
+        private final String json;
+
+        private PendingRow(ClusterEvent event, String json) {
+            this.event = event;
+            this.json = json;
+        }
+    }
+}
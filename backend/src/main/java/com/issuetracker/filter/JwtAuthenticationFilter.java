@@ -1,7 +1,11 @@
 package com.issuetracker.filter;
 
-import com.issuetracker.service.AuthService;
+import com.issuetracker.security.AuthenticatedUser;
+import com.issuetracker.service.TokenRevocationService;
+import com.issuetracker.service.UserDetailsCache;
+import com.issuetracker.tracing.RequestTrace;
 import com.issuetracker.util.JwtUtil;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -10,56 +14,124 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Objects;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
+    // EventSource cannot send headers, so GET /api/events also takes a stream token as ?token=
+    public static final String STREAM_TOKEN_PARAM = "token";
+    private static final String EVENT_STREAM_PATH = "/api/events";
+    
     @Autowired
     private JwtUtil jwtUtil;
     
     @Autowired
-    private AuthService authService;
+    private UserDetailsCache userDetailsCache;
+    
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
             throws ServletException, IOException {
         
+        RequestTrace.Span span = RequestTrace.begin("filter", "JwtAuthenticationFilter");
+        try {
+            authenticate(request);
+        } finally {
+            RequestTrace.end(span);
+        }
+        
+        chain.doFilter(request, response);
+    }
+    
+    private void authenticate(HttpServletRequest request) {
         final String authorizationHeader = request.getHeader("Authorization");
         
-        String email = null;
-        String jwt = null;
+        Claims claims = null;
         
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwt = authorizationHeader.substring(7);
-            try {
-                email = jwtUtil.getEmailFromToken(jwt);
-            } catch (Exception e) {
-                logger.error("Error extracting email from token", e);
-            }
+            // Stream tokens are not bearer tokens
+            claims = verify(authorizationHeader.substring(7), null);
+        } else if (isEventStream(request) && request.getParameter(STREAM_TOKEN_PARAM) != null) {
+            claims = verify(request.getParameter(STREAM_TOKEN_PARAM), JwtUtil.EVENTS_SCOPE);
         }
         
-        if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+        if (claims != null && claims.getSubject() != null
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
             try {
-                UserDetails userDetails = authService.loadUserByUsername(email);
+                UserDetails userDetails = principalFromClaims(claims);
                 
-                if (jwtUtil.validateToken(jwt, email)) {
-                    UsernamePasswordAuthenticationToken authenticationToken =
-                        new UsernamePasswordAuthenticationToken(
-                            userDetails, null, userDetails.getAuthorities());
-                    authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-                }
+                UsernamePasswordAuthenticationToken authenticationToken =
+                    new UsernamePasswordAuthenticationToken(
+                        userDetails, null, userDetails.getAuthorities());
+                authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authenticationToken);
             } catch (Exception e) {
-                logger.error("Error validating token", e);
+                logger.error("Error loading user for token", e);
                 // Don't set authentication - let Spring Security handle unauthorized access
             }
         }
-        
-        chain.doFilter(request, response);
+    }
+    
+    /**
+     * Principal for a bearer token, or null when it is invalid, expired, revoked or a stream token.
+     * Also used for the Authorization header of STOMP CONNECT frames.
+     */
+    public UserDetails loadPrincipal(String jwt) {
+        Claims claims = verify(jwt, null);
+        if (claims == null || claims.getSubject() == null) {
+            return null;
+        }
+        try {
+            return principalFromClaims(claims);
+        } catch (Exception e) {
+            logger.error("Error loading user for token", e);
+            return null;
+        }
+    }
+    
+    private Claims verify(String jwt, String requiredScope) {
+        try {
+            // One parse verifies signature and expiry and yields every claim we need
+            Claims claims = jwtUtil.parseClaims(jwt);
+            if (!Objects.equals(requiredScope, claims.get(JwtUtil.SCOPE_CLAIM, String.class))) {
+                return null;
+            }
+            // Bloom filter lookup - only touches the database for (likely) revoked tokens
+            if (tokenRevocationService.isRevoked(JwtUtil.revocationId(claims, jwt))) {
+                return null;
+            }
+            return claims;
+        } catch (Exception e) {
+            logger.error("Error validating token", e);
+            return null;
+        }
+    }
+    
+    private static boolean isEventStream(HttpServletRequest request) {
+        return "GET".equals(request.getMethod()) && (request.getContextPath() + EVENT_STREAM_PATH).equals(request.getRequestURI());
+    }
+    
+    /**
+     * Always resolved through the cache rather than from the token's own claims, so a user that was
+     * changed or deleted after the token was issued is seen as soon as the cache entry is invalidated
+     * (over the bus, or at the latest when it expires), not only when the token does.
+     */
+    private UserDetails principalFromClaims(Claims claims) {
+        UserDetails principal = userDetailsCache.get(claims.getSubject());
+        Long userId = claims.get(JwtUtil.USER_ID_CLAIM, Long.class);
+        // Account deleted and the email signed up again: the old token must not log into the new account
+        if (userId != null && principal instanceof AuthenticatedUser user && !userId.equals(user.getId())) {
+            throw new UsernameNotFoundException("Token was issued to another account with email: " + claims.getSubject());
+        }
+        return principal;
     }
 }
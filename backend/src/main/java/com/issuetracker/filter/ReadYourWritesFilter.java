@@ -0,0 +1,69 @@
+package com.issuetracker.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.issuetracker.config.ReadWriteRoutingDataSource;
+import com.issuetracker.security.AuthenticatedUser;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Read-your-writes on top of replica routing: once a user sends a write request (anything but
+ * GET/HEAD/OPTIONS), their requests read from the primary for the configured window, so they
+ * don't see a replica that hasn't caught up with their own change.
+ *
+ * The window is tracked per node, so it holds as long as a user's requests keep reaching the same
+ * node (session affinity). Runs after the security filter chain, which supplies the user.
+ * Registered by {@link com.issuetracker.config.ReplicaDataSourceConfig}.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReadYourWritesFilter(Duration stickyWindow, long maxUsers) {
+        this.recentWriters = Caffeine.newBuilder()
+            .expireAfterWrite(stickyWindow)
+            .maximumSize(maxUsers)
+            .build();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Long userId = currentUserId();
+        boolean write = !isReadMethod(request.getMethod());
+
+        if (userId != null && (write || recentWriters.getIfPresent(userId) != null)) {
+            ReadWriteRoutingDataSource.pinToPrimary();
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadWriteRoutingDataSource.unpin();
+            if (userId != null && write) {
+                // The window starts when the write has committed
+                recentWriters.put(userId, Boolean.TRUE);
+            }
+        }
+    }
+
+    private static boolean isReadMethod(String method) {
+        return "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.getId();
+        }
+        return null;
+    }
+}
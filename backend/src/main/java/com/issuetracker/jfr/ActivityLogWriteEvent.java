@@ -0,0 +1,30 @@
+package com.issuetracker.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.issuetracker.ActivityLogWrite")
+@Label("Activity Log Write")
+@Category({"Issue Tracker", "Activity"})
+@Description("Activity log insert in ActivityLogService (its own transaction)")
+@StackTrace(false)
+public class ActivityLogWriteEvent extends Event {
+
+    @Label("Activity Type")
+    String activityType;
+
+    @Label("Issue Id")
+    long issueId;
+
+    public void record(String activityType, Long issueId) {
+        if (shouldCommit()) {
+            this.activityType = activityType;
+            this.issueId = issueId != null ? issueId : 0;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.issuetracker.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.issuetracker.CommentWrite")
+@Label("Comment Write")
+@Category({"Issue Tracker", "Comments"})
+@Description("Comment create, update or delete in CommentService")
+@StackTrace(false)
+public class CommentWriteEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Comment Id")
+    long commentId;
+
+    @Label("Issue Id")
+    long issueId;
+
+    public CommentWriteEvent(String operation) {
+        this.operation = operation;
+    }
+
+    public void record(Long commentId, Long issueId) {
+        if (shouldCommit()) {
+            this.commentId = commentId != null ? commentId : 0;
+            this.issueId = issueId != null ? issueId : 0;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.issuetracker.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Duration of an issue create, update or delete, from the service call to the DTO being built
+ * (the surrounding transaction commits after it).
+ */
+@Name("com.issuetracker.IssueOperation")
+@Label("Issue Operation")
+@Category({"Issue Tracker", "Issues"})
+@Description("Issue create, update or delete in IssueService")
+@StackTrace(false)
+public class IssueOperationEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Issue Id")
+    long issueId;
+
+    @Label("Project Id")
+    long projectId;
+
+    public IssueOperationEvent(String operation) {
+        this.operation = operation;
+    }
+
+    public void record(Long issueId, Long projectId) {
+        if (shouldCommit()) {
+            this.issueId = issueId != null ? issueId : 0;
+            this.projectId = projectId != null ? projectId : 0;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.issuetracker.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One {@code GET /api/issues} page query. The filter shape lists which filters were set (not
+ * their values), so recordings can be grouped by query shape.
+ */
+@Name("com.issuetracker.IssueQuery")
+@Label("Issue Query")
+@Category({"Issue Tracker", "Issues"})
+@Description("Filtered, sorted issue page query in IssueService")
+@StackTrace(false)
+public class IssueQueryEvent extends Event {
+
+    @Label("Filters")
+    @Description("Filters present, e.g. \"status,projectId\" (empty for none)")
+    String filters;
+
+    @Label("Sort")
+    String sort;
+
+    @Label("Page")
+    int page;
+
+    @Label("Page Size")
+    int size;
+
+    @Label("Rows")
+    int rows;
+
+    @Label("Total Elements")
+    long totalElements;
+
+    public void record(String filters, String sort, int page, int size, int rows, long totalElements) {
+        if (shouldCommit()) {
+            this.filters = filters;
+            this.sort = sort;
+            this.page = page;
+            this.size = size;
+            this.rows = rows;
+            this.totalElements = totalElements;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.issuetracker.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Hand-off of one bus event to the local STOMP broker and SSE streams. With the in-memory bus
+ * this runs on the thread that committed the change, otherwise on the bus poller.
+ */
+@Name("com.issuetracker.WebSocketPublish")
+@Label("WebSocket Publish")
+@Category({"Issue Tracker", "Real-time"})
+@Description("Delivery of a real-time event to STOMP subscribers and SSE streams in EventPublisher")
+@StackTrace(false)
+public class WebSocketPublishEvent extends Event {
+
+    @Label("Destination")
+    String destination;
+
+    @Label("Payload Type")
+    String payloadType;
+
+    @Label("Sequence")
+    long sequence;
+
+    @Label("Project Id")
+    long projectId;
+
+    public void record(String destination, Object payload, long sequence, Long projectId) {
+        if (shouldCommit()) {
+            this.destination = destination;
+            this.payloadType = payload != null ? payload.getClass().getSimpleName() : null;
+            this.sequence = sequence;
+            this.projectId = projectId != null ? projectId : 0;
+            commit();
+        }
+    }
+}
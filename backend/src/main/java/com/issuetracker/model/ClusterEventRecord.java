@@ -0,0 +1,102 @@
+package com.issuetracker.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Row in the cross-node event log used by the JDBC event bus. Mapped as an entity so that
+ * Hibernate creates the table; reads and writes go through JdbcTemplate in batches.
+ */
+@Entity
+@Table(name = "cluster_events")
+public class ClusterEventRecord {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "event_id", nullable = false, length = 36)
+    private String eventId;
+    
+    @Column(name = "origin_node", nullable = false, length = 64)
+    private String originNode;
+    
+    @Column(nullable = false)
+    private String destination;
+    
+    @Column(name = "project_id")
+    private Long projectId;
+    
+    @Column(name = "payload_type", nullable = false)
+    private String payloadType;
+    
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String payload;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getEventId() {
+        return eventId;
+    }
+    
+    public void setEventId(String eventId) {
+        this.eventId = eventId;
+    }
+    
+    public String getOriginNode() {
+        return originNode;
+    }
+    
+    public void setOriginNode(String originNode) {
+        this.originNode = originNode;
+    }
+    
+    public String getDestination() {
+        return destination;
+    }
+    
+    public void setDestination(String destination) {
+        this.destination = destination;
+    }
+    
+    public Long getProjectId() {
+        return projectId;
+    }
+    
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+    
+    public String getPayloadType() {
+        return payloadType;
+    }
+    
+    public void setPayloadType(String payloadType) {
+        this.payloadType = payloadType;
+    }
+    
+    public String getPayload() {
+        return payload;
+    }
+    
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
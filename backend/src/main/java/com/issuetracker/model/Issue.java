@@ -5,7 +5,8 @@ import jakarta.validation.constraints.NotBlank;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "issues")
+// Covers the per-project counts of the project_stats reconciliation
+@Table(name = "issues", indexes = @Index(name = "idx_issues_project_id_status_priority", columnList = "project_id, status, priority"))
 public class Issue {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,53 @@
+package com.issuetracker.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Lease on a cluster-wide scheduled job, one row per job name. Every node runs the job's timer,
+ * but only the node that holds the lease does the work; a lease that is not renewed (node stopped)
+ * expires and another node takes over.
+ */
+@Entity
+@Table(name = "job_leases")
+public class JobLease {
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(name = "lease_owner", length = 36)
+    private String leaseOwner;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    public JobLease() {}
+
+    public JobLease(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getLeaseOwner() {
+        return leaseOwner;
+    }
+
+    public void setLeaseOwner(String leaseOwner) {
+        this.leaseOwner = leaseOwner;
+    }
+
+    public LocalDateTime getLeaseUntil() {
+        return leaseUntil;
+    }
+
+    public void setLeaseUntil(LocalDateTime leaseUntil) {
+        this.leaseUntil = leaseUntil;
+    }
+}
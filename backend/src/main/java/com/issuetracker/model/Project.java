@@ -1,11 +1,21 @@
 package com.issuetracker.model;
 
+import com.issuetracker.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "projects")
+@Table(name = "projects", indexes = {
+    // Keyset pagination: one index per sort key with its tie-breakers (updatedAt ties go by createdAt, then id)
+    @Index(name = "idx_projects_name_id", columnList = "name, id"),
+    @Index(name = "idx_projects_created_at_id", columnList = "created_at, id"),
+    @Index(name = "idx_projects_updated_at_created_at_id", columnList = "updated_at, created_at, id")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.PROJECT_REGION)
 public class Project {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -25,6 +35,10 @@ public class Project {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
+    // Set when deletion is requested; the row itself is removed once its issues are gone
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+    
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -76,4 +90,16 @@ public class Project {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+    
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+    
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+    
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
 }
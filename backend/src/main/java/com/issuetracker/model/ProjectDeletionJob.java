@@ -0,0 +1,196 @@
+package com.issuetracker.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Progress of a background project deletion. The row outlives the project so clients can see
+ * that it finished. {@code leaseOwner}/{@code leaseUntil} make sure only one node works on a job;
+ * a lease that is not renewed (node stopped) expires and another node resumes the job.
+ */
+@Entity
+@Table(name = "project_deletion_jobs", indexes = {
+    @Index(name = "idx_project_deletion_jobs_project_id", columnList = "project_id"),
+    @Index(name = "idx_project_deletion_jobs_status", columnList = "status")
+})
+public class ProjectDeletionJob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "project_name")
+    private String projectName;
+
+    // Kept on the job because the project row is gone once the deletion completes
+    @Column(name = "owner_id")
+    private Long ownerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ProjectDeletionStatus status;
+
+    @Column(name = "issues_total", nullable = false)
+    private long issuesTotal;
+
+    @Column(name = "issues_deleted", nullable = false)
+    private long issuesDeleted;
+
+    @Column(name = "comments_deleted", nullable = false)
+    private long commentsDeleted;
+
+    @Column(name = "activity_logs_deleted", nullable = false)
+    private long activityLogsDeleted;
+
+    @Column(name = "lease_owner", length = 36)
+    private String leaseOwner;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public String getProjectName() {
+        return projectName;
+    }
+
+    public void setProjectName(String projectName) {
+        this.projectName = projectName;
+    }
+
+    public Long getOwnerId() {
+        return ownerId;
+    }
+
+    public void setOwnerId(Long ownerId) {
+        this.ownerId = ownerId;
+    }
+
+    public ProjectDeletionStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ProjectDeletionStatus status) {
+        this.status = status;
+    }
+
+    public long getIssuesTotal() {
+        return issuesTotal;
+    }
+
+    public void setIssuesTotal(long issuesTotal) {
+        this.issuesTotal = issuesTotal;
+    }
+
+    public long getIssuesDeleted() {
+        return issuesDeleted;
+    }
+
+    public void setIssuesDeleted(long issuesDeleted) {
+        this.issuesDeleted = issuesDeleted;
+    }
+
+    public long getCommentsDeleted() {
+        return commentsDeleted;
+    }
+
+    public void setCommentsDeleted(long commentsDeleted) {
+        this.commentsDeleted = commentsDeleted;
+    }
+
+    public long getActivityLogsDeleted() {
+        return activityLogsDeleted;
+    }
+
+    public void setActivityLogsDeleted(long activityLogsDeleted) {
+        this.activityLogsDeleted = activityLogsDeleted;
+    }
+
+    public String getLeaseOwner() {
+        return leaseOwner;
+    }
+
+    public void setLeaseOwner(String leaseOwner) {
+        this.leaseOwner = leaseOwner;
+    }
+
+    public LocalDateTime getLeaseUntil() {
+        return leaseUntil;
+    }
+
+    public void setLeaseUntil(LocalDateTime leaseUntil) {
+        this.leaseUntil = leaseUntil;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+}
@@ -0,0 +1,6 @@
+package com.issuetracker.model;
+
+public enum ProjectDeletionStatus {
+    IN_PROGRESS,
+    COMPLETED
+}
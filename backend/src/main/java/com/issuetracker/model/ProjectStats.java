@@ -0,0 +1,125 @@
+package com.issuetracker.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Issue counts for one project, kept up to date by {@code ProjectStatsService} as issues are
+ * created, changed and deleted, and periodically reconciled against the issues table.
+ */
+@Entity
+@Table(name = "project_stats")
+public class ProjectStats {
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(name = "open_count", nullable = false)
+    private long openCount;
+
+    @Column(name = "in_progress_count", nullable = false)
+    private long inProgressCount;
+
+    @Column(name = "closed_count", nullable = false)
+    private long closedCount;
+
+    @Column(name = "low_count", nullable = false)
+    private long lowCount;
+
+    @Column(name = "medium_count", nullable = false)
+    private long mediumCount;
+
+    @Column(name = "high_count", nullable = false)
+    private long highCount;
+
+    @Column(name = "critical_count", nullable = false)
+    private long criticalCount;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public ProjectStats() {}
+
+    public ProjectStats(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public long getOpenCount() {
+        return openCount;
+    }
+
+    public void setOpenCount(long openCount) {
+        this.openCount = openCount;
+    }
+
+    public long getInProgressCount() {
+        return inProgressCount;
+    }
+
+    public void setInProgressCount(long inProgressCount) {
+        this.inProgressCount = inProgressCount;
+    }
+
+    public long getClosedCount() {
+        return closedCount;
+    }
+
+    public void setClosedCount(long closedCount) {
+        this.closedCount = closedCount;
+    }
+
+    public long getLowCount() {
+        return lowCount;
+    }
+
+    public void setLowCount(long lowCount) {
+        this.lowCount = lowCount;
+    }
+
+    public long getMediumCount() {
+        return mediumCount;
+    }
+
+    public void setMediumCount(long mediumCount) {
+        this.mediumCount = mediumCount;
+    }
+
+    public long getHighCount() {
+        return highCount;
+    }
+
+    public void setHighCount(long highCount) {
+        this.highCount = highCount;
+    }
+
+    public long getCriticalCount() {
+        return criticalCount;
+    }
+
+    public void setCriticalCount(long criticalCount) {
+        this.criticalCount = criticalCount;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -1,12 +1,20 @@
 package com.issuetracker.model;
 
+import com.issuetracker.config.HibernateCacheConfig;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.USER_REGION)
+@NaturalIdCache(region = HibernateCacheConfig.USER_NATURAL_ID_REGION)
 public class User {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -18,6 +26,7 @@ public class User {
     
     @NotBlank
     @Email
+    @NaturalId
     @Column(nullable = false, unique = true)
     private String email;
     
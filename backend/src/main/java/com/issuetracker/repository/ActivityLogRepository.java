@@ -1,11 +1,15 @@
 package com.issuetracker.repository;
 
 import com.issuetracker.model.ActivityLog;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -16,4 +20,12 @@ public interface ActivityLogRepository extends JpaRepository<ActivityLog, Long>
            "WHERE a.issue.id = :issueId " +
            "ORDER BY a.createdAt DESC")
     List<ActivityLog> findByIssueIdOrderByCreatedAtDesc(@Param("issueId") Long issueId);
+    
+    @Query(value = "SELECT a FROM ActivityLog a LEFT JOIN FETCH a.user WHERE a.issue.id = :issueId",
+           countQuery = "SELECT COUNT(a) FROM ActivityLog a WHERE a.issue.id = :issueId")
+    Page<ActivityLog> findByIssueIdWithUser(@Param("issueId") Long issueId, Pageable pageable);
+    
+    @Modifying
+    @Query("DELETE FROM ActivityLog a WHERE a.issue.id IN :issueIds")
+    int deleteByIssueIdIn(@Param("issueIds") Collection<Long> issueIds);
 }
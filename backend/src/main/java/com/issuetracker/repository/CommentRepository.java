@@ -2,11 +2,15 @@ package com.issuetracker.repository;
 
 import com.issuetracker.model.Comment;
 import com.issuetracker.model.Issue;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +19,14 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT c FROM Comment c LEFT JOIN FETCH c.author WHERE c.issue = :issue ORDER BY c.createdAt ASC")
     List<Comment> findByIssueOrderByCreatedAtAsc(@Param("issue") Issue issue);
     
+    @Query(value = "SELECT c FROM Comment c LEFT JOIN FETCH c.author WHERE c.issue.id = :issueId",
+           countQuery = "SELECT COUNT(c) FROM Comment c WHERE c.issue.id = :issueId")
+    Page<Comment> findByIssueIdWithAuthor(@Param("issueId") Long issueId, Pageable pageable);
+    
     @Query("SELECT c FROM Comment c LEFT JOIN FETCH c.author WHERE c.id = :id")
     Optional<Comment> findByIdWithAuthor(@Param("id") Long id);
+    
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.issue.id IN :issueIds")
+    int deleteByIssueIdIn(@Param("issueIds") Collection<Long> issueIds);
 }
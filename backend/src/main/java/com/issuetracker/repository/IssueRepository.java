@@ -7,7 +7,9 @@ import com.issuetracker.model.Project;
 import com.issuetracker.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -37,11 +39,14 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
         Pageable pageable
     );
     
+    // Project, creator and assignee are all read by IssueService.convertToDto
+    @EntityGraph(attributePaths = {"project", "creator", "assignee"})
     @Query("SELECT i FROM Issue i WHERE " +
            "(:status IS NULL OR i.status = :status) " +
            "AND (:priority IS NULL OR i.priority = :priority) " +
            "AND (:assigneeId IS NULL OR i.assignee.id = :assigneeId) " +
            "AND (:projectId IS NULL OR i.project.id = :projectId) " +
+           "AND i.project.deletedAt IS NULL " +
            "AND (:searchText IS NULL OR LOWER(i.title) LIKE LOWER(CONCAT('%', :searchText, '%')))")
     Page<Issue> findAllWithFilters(
         @Param("status") IssueStatus status,
@@ -52,6 +57,21 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
         Pageable pageable
     );
     
-    @Query("SELECT i FROM Issue i LEFT JOIN FETCH i.creator LEFT JOIN FETCH i.assignee WHERE i.id = :id")
+    @Query("SELECT i FROM Issue i JOIN FETCH i.project LEFT JOIN FETCH i.creator LEFT JOIN FETCH i.assignee WHERE i.id = :id")
     java.util.Optional<Issue> findByIdWithCreatorAndAssignee(@Param("id") Long id);
+    
+    long countByProjectId(Long projectId);
+    
+    @Query("SELECT i.id FROM Issue i WHERE i.project.id = :projectId ORDER BY i.id")
+    java.util.List<Long> findIdsByProjectId(@Param("projectId") Long projectId, Pageable pageable);
+    
+    @Modifying
+    @Query("DELETE FROM Issue i WHERE i.id IN :ids")
+    int deleteByIdIn(@Param("ids") java.util.Collection<Long> ids);
+    
+    // Rows of [projectId, status, priority, count] for projects in (afterId, toId], for rebuilding project_stats
+    @Query("SELECT i.project.id, i.status, i.priority, COUNT(i) FROM Issue i " +
+           "WHERE i.project.id > :afterId AND i.project.id <= :toId " +
+           "GROUP BY i.project.id, i.status, i.priority")
+    java.util.List<Object[]> countByProjectStatusAndPriority(@Param("afterId") long afterId, @Param("toId") long toId);
 }
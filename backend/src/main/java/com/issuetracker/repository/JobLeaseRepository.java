@@ -0,0 +1,21 @@
+package com.issuetracker.repository;
+
+import com.issuetracker.model.JobLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    /** Takes or renews the lease if it is free, expired or already ours; returns 1 on success. */
+    @Modifying
+    @Query("UPDATE JobLease l SET l.leaseOwner = :owner, l.leaseUntil = :until " +
+           "WHERE l.name = :name AND (l.leaseOwner IS NULL OR l.leaseOwner = :owner OR l.leaseUntil < :now)")
+    int claim(@Param("name") String name, @Param("owner") String owner,
+              @Param("until") LocalDateTime until, @Param("now") LocalDateTime now);
+}
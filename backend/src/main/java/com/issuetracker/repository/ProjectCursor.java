@@ -0,0 +1,36 @@
+package com.issuetracker.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Position in a sorted project listing: the sort key value and id of the last row returned.
+ * The value is a {@code String} for name and a {@code LocalDateTime} for the timestamp sorts.
+ * The updatedAt sort also carries the row's createdAt, its secondary sort key.
+ */
+public final class ProjectCursor {
+    private final Object value;
+    private final LocalDateTime createdAt;
+    private final Long id;
+    
+    public ProjectCursor(Object value, Long id) {
+        this(value, null, id);
+    }
+    
+    public ProjectCursor(Object value, LocalDateTime createdAt, Long id) {
+        this.value = value;
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+    
+    public Object getValue() {
+        return value;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,29 @@
+package com.issuetracker.repository;
+
+import com.issuetracker.model.ProjectDeletionJob;
+import com.issuetracker.model.ProjectDeletionStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ProjectDeletionJobRepository extends JpaRepository<ProjectDeletionJob, Long> {
+
+    List<ProjectDeletionJob> findByStatusOrderByIdAsc(ProjectDeletionStatus status);
+
+    Optional<ProjectDeletionJob> findTopByProjectIdOrderByIdDesc(Long projectId);
+
+    /** Takes the job's lease if it is free, expired or already ours; returns 1 on success. */
+    @Modifying
+    @Query("UPDATE ProjectDeletionJob j SET j.leaseOwner = :owner, j.leaseUntil = :until " +
+           "WHERE j.id = :id AND j.status = com.issuetracker.model.ProjectDeletionStatus.IN_PROGRESS " +
+           "AND (j.leaseOwner IS NULL OR j.leaseOwner = :owner OR j.leaseUntil < :now)")
+    int claim(@Param("id") Long id, @Param("owner") String owner,
+              @Param("until") LocalDateTime until, @Param("now") LocalDateTime now);
+}
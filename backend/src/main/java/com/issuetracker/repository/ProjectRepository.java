@@ -2,6 +2,7 @@ package com.issuetracker.repository;
 
 import com.issuetracker.model.Project;
 import com.issuetracker.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -10,10 +11,13 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface ProjectRepository extends JpaRepository<Project, Long> {
+public interface ProjectRepository extends JpaRepository<Project, Long>, ProjectRepositoryCustom {
     List<Project> findByOwner(User owner);
     
     @Query("SELECT p FROM Project p WHERE " +
            "(:searchText IS NULL OR LOWER(p.name) LIKE LOWER(CONCAT('%', :searchText, '%')))")
     List<Project> findAllWithSearch(@Param("searchText") String searchText);
+    
+    @Query("SELECT p.id FROM Project p WHERE p.id > :afterId ORDER BY p.id")
+    List<Long> findIdsAfter(@Param("afterId") long afterId, Pageable pageable);
 }
@@ -0,0 +1,26 @@
+package com.issuetracker.repository;
+
+import com.issuetracker.dto.ProjectDto;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ProjectRepositoryCustom {
+    
+    /**
+     * Projects as DTOs, with the owner name fetched in the same statement. Filtered by
+     * {@code searchText} (case-insensitive substring of the name, null for all) and ordered by
+     * {@code sortField} ("name", "createdAt" or "updatedAt") then id ascending.
+     *
+     * @param after  only rows after this position (keyset pagination), or null
+     * @param offset rows to skip (offset pagination), 0 when using {@code after}
+     * @param limit  maximum rows, or 0 for no limit
+     */
+    List<ProjectDto> findProjectDtos(String searchText, String sortField, boolean descending,
+                                     ProjectCursor after, int offset, int limit);
+    
+    /** One project as a DTO, with owner name and issue counts, in one statement; empty if gone or tombstoned. */
+    Optional<ProjectDto> findProjectDtoById(Long id);
+    
+    long countProjects(String searchText);
+}
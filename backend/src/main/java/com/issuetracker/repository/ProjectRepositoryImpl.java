@@ -0,0 +1,108 @@
+package com.issuetracker.repository;
+
+import com.issuetracker.dto.ProjectDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * JPQL for {@link ProjectRepositoryCustom}. The sort field is whitelisted before it is put into
+ * the query string; everything else is a bind parameter. Issue counts come from the same row
+ * via a join on project_stats.
+ */
+public class ProjectRepositoryImpl implements ProjectRepositoryCustom {
+    
+    private static final Set<String> SORT_FIELDS = Set.of("name", "createdAt", "updatedAt");
+    
+    private static final String SELECT_DTO =
+        "SELECT new com.issuetracker.dto.ProjectDto(p.id, p.name, o.id, o.name, p.createdAt, p.updatedAt, " +
+        "COALESCE(s.openCount, 0L), COALESCE(s.inProgressCount, 0L), COALESCE(s.closedCount, 0L), " +
+        "COALESCE(s.lowCount, 0L), COALESCE(s.mediumCount, 0L), COALESCE(s.highCount, 0L), " +
+        "COALESCE(s.criticalCount, 0L)) " +
+        "FROM Project p JOIN p.owner o LEFT JOIN ProjectStats s ON s.projectId = p.id " +
+        "WHERE p.deletedAt IS NULL";
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public List<ProjectDto> findProjectDtos(String searchText, String sortField, boolean descending,
+                                            ProjectCursor after, int offset, int limit) {
+        if (!SORT_FIELDS.contains(sortField)) {
+            throw new IllegalArgumentException("Unsupported sort field " + sortField);
+        }
+        String direction = descending ? "DESC" : "ASC";
+        String comparison = descending ? "<" : ">";
+        
+        StringBuilder jpql = new StringBuilder(SELECT_DTO);
+        if (searchText != null) {
+            jpql.append(" AND LOWER(p.name) LIKE :pattern ESCAPE '\\'");
+        }
+        // updatedAt ties are broken by newest createdAt first, then id, as before paging was added
+        boolean byCreatedAt = sortField.equals("updatedAt");
+        if (after != null) {
+            jpql.append(" AND (p.").append(sortField).append(' ').append(comparison).append(" :afterValue")
+                .append(" OR (p.").append(sortField).append(" = :afterValue AND ");
+            if (byCreatedAt) {
+                jpql.append("(p.createdAt < :afterCreatedAt OR (p.createdAt = :afterCreatedAt AND p.id > :afterId))))");
+            } else {
+                jpql.append("p.id > :afterId))");
+            }
+        }
+        jpql.append(" ORDER BY p.").append(sortField).append(' ').append(direction);
+        if (byCreatedAt) {
+            jpql.append(", p.createdAt DESC");
+        }
+        jpql.append(", p.id ASC");
+        
+        TypedQuery<ProjectDto> query = entityManager.createQuery(jpql.toString(), ProjectDto.class);
+        if (searchText != null) {
+            query.setParameter("pattern", likePattern(searchText));
+        }
+        if (after != null) {
+            query.setParameter("afterValue", after.getValue());
+            query.setParameter("afterId", after.getId());
+            if (byCreatedAt) {
+                query.setParameter("afterCreatedAt", after.getCreatedAt());
+            }
+        }
+        if (offset > 0) {
+            query.setFirstResult(offset);
+        }
+        if (limit > 0) {
+            query.setMaxResults(limit);
+        }
+        return query.getResultList();
+    }
+    
+    @Override
+    public Optional<ProjectDto> findProjectDtoById(Long id) {
+        return entityManager.createQuery(SELECT_DTO + " AND p.id = :id", ProjectDto.class)
+            .setParameter("id", id)
+            .getResultStream()
+            .findFirst();
+    }
+    
+    @Override
+    public long countProjects(String searchText) {
+        if (searchText == null) {
+            return entityManager.createQuery("SELECT COUNT(p) FROM Project p WHERE p.deletedAt IS NULL", Long.class).getSingleResult();
+        }
+        return entityManager.createQuery(
+                "SELECT COUNT(p) FROM Project p WHERE p.deletedAt IS NULL AND LOWER(p.name) LIKE :pattern ESCAPE '\\'", Long.class)
+            .setParameter("pattern", likePattern(searchText))
+            .getSingleResult();
+    }
+    
+    private static String likePattern(String searchText) {
+        String escaped = searchText.toLowerCase()
+            .replace("\\", "\\\\")
+            .replace("%", "\\%")
+            .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
@@ -0,0 +1,53 @@
+package com.issuetracker.repository;
+
+import com.issuetracker.model.ProjectStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ProjectStatsRepository extends JpaRepository<ProjectStats, Long> {
+
+    /**
+     * The stats rows of projects in {@code (afterId, toId]}, locked until the caller's transaction
+     * ends. Issue changes in those projects wait on their row in {@link #adjust} meanwhile.
+     * Ordered so concurrent lockers cannot deadlock.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProjectStats s WHERE s.projectId > :afterId AND s.projectId <= :toId ORDER BY s.projectId")
+    List<ProjectStats> findRangeForUpdate(@Param("afterId") long afterId, @Param("toId") long toId);
+
+    /**
+     * Adds the deltas in a single UPDATE, so concurrent issue changes in the same project don't
+     * lose each other's counts. Returns 0 if the project has no stats row yet.
+     */
+    @Modifying
+    @Query("UPDATE ProjectStats s SET " +
+           "s.openCount = s.openCount + :open, " +
+           "s.inProgressCount = s.inProgressCount + :inProgress, " +
+           "s.closedCount = s.closedCount + :closed, " +
+           "s.lowCount = s.lowCount + :low, " +
+           "s.mediumCount = s.mediumCount + :medium, " +
+           "s.highCount = s.highCount + :high, " +
+           "s.criticalCount = s.criticalCount + :critical, " +
+           "s.updatedAt = :now " +
+           "WHERE s.projectId = :projectId")
+    int adjust(
+        @Param("projectId") Long projectId,
+        @Param("open") long open,
+        @Param("inProgress") long inProgress,
+        @Param("closed") long closed,
+        @Param("low") long low,
+        @Param("medium") long medium,
+        @Param("high") long high,
+        @Param("critical") long critical,
+        @Param("now") LocalDateTime now
+    );
+}
@@ -0,0 +1,11 @@
+package com.issuetracker.repository;
+
+import com.issuetracker.model.User;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+    
+    /** Looks the user up by natural id, so repeated lookups are served from the second-level cache. */
+    Optional<User> findByEmail(String email);
+}
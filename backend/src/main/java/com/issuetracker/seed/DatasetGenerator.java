@@ -0,0 +1,369 @@
+package com.issuetracker.seed;
+
+import com.issuetracker.model.ActivityType;
+import com.issuetracker.model.IssuePriority;
+import com.issuetracker.model.IssueStatus;
+import com.issuetracker.service.ProjectStatsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Fills the schema with a synthetic dataset for scale testing (profile "seed", see
+ * application-seed.properties for the volumes).
+ *
+ * Everything is drawn from a single {@link Random} seeded with {@code seed.random-seed} and
+ * timestamps count back from {@code seed.reference-time}, so the same settings always produce
+ * the same rows on an empty database. Only the password hash differs (BCrypt salts are random).
+ *
+ * The shape is deliberately uneven: project sizes follow a power law, most issues are closed,
+ * older issues more so, and priorities lean towards MEDIUM. Comments and extra activity per issue
+ * are exponentially distributed around the configured averages. Rows are written with JDBC batch
+ * inserts and explicit ids, one transaction per chunk of issues, and the identity columns are
+ * moved past the new rows at the end so the application keeps inserting normally.
+ */
+@Component
+@Profile("seed")
+public class DatasetGenerator implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatasetGenerator.class);
+
+    private static final String INSERT_USER =
+        "INSERT INTO users (id, name, email, password, created_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_PROJECT =
+        "INSERT INTO projects (id, name, owner_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_ISSUE =
+        "INSERT INTO issues (id, title, description, status, priority, project_id, assignee_id, creator_id, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_COMMENT =
+        "INSERT INTO comments (id, content, issue_id, author_id, created_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_ACTIVITY =
+        "INSERT INTO activity_logs (id, issue_id, activity_type, user_id, old_value, new_value, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String[] AREAS = {
+        "Login", "Dashboard", "Search", "Export", "Settings", "Notifications", "Billing", "Profile",
+        "Issue list", "Comment editor", "File upload", "Reports", "API", "Mobile view", "Sync job"
+    };
+    private static final String[] SYMPTOMS = {
+        "fails after deploy", "is slow for large accounts", "shows stale data", "throws 500 on save",
+        "ignores the selected filter", "renders incorrectly in dark mode", "times out intermittently",
+        "loses changes on refresh", "needs keyboard shortcuts", "should support bulk edit"
+    };
+    private static final String[] REMARKS = {
+        "Reproduced on staging.", "Could not reproduce locally, need more details.",
+        "Looks related to the caching change from last sprint.", "Fix is ready for review.",
+        "Customer reported this again today.", "Added logs, waiting for the next occurrence.",
+        "Workaround: reload the page twice.", "Verified on the latest build, closing."
+    };
+    private static final String[] FIRST_NAMES = {
+        "Alex", "Sam", "Jordan", "Taylor", "Morgan", "Casey", "Riley", "Jamie", "Robin", "Avery"
+    };
+    private static final String[] LAST_NAMES = {
+        "Smith", "Garcia", "Chen", "Novak", "Okafor", "Silva", "Kowalski", "Tanaka", "Berg", "Moreau"
+    };
+    private static final ActivityType[] EXTRA_ACTIVITY = {
+        ActivityType.PRIORITY_CHANGED, ActivityType.ASSIGNEE_CHANGED,
+        ActivityType.TITLE_CHANGED, ActivityType.DESCRIPTION_CHANGED
+    };
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ProjectStatsService projectStatsService;
+
+    @Autowired
+    private ConfigurableApplicationContext applicationContext;
+
+    @Value("${seed.random-seed:42}")
+    private long randomSeed;
+
+    @Value("${seed.users:1000}")
+    private int userCount;
+
+    @Value("${seed.projects:200}")
+    private int projectCount;
+
+    @Value("${seed.issues:100000}")
+    private long issueCount;
+
+    @Value("${seed.comments-per-issue:3}")
+    private double commentsPerIssue;
+
+    @Value("${seed.activities-per-issue:1}")
+    private double activitiesPerIssue;
+
+    // Higher values concentrate more issues in the first few projects
+    @Value("${seed.project-skew:3.0}")
+    private double projectSkew;
+
+    @Value("${seed.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${seed.reference-time:2025-01-01T00:00:00}")
+    private String referenceTime;
+
+    @Value("${seed.days:730}")
+    private int days;
+
+    @Value("${seed.password:password}")
+    private String password;
+
+    @Value("${seed.exit-when-done:true}")
+    private boolean exitWhenDone;
+
+    private Random random;
+    private LocalDateTime end;
+    private TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        random = new Random(randomSeed);
+        end = LocalDateTime.parse(referenceTime);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        String firstEmail = email(1);
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE email = ?", Integer.class, firstEmail);
+        if (existing != null && existing > 0) {
+            throw new RuntimeException("Dataset for seed " + randomSeed + " is already present (found " + firstEmail + ")");
+        }
+
+        long started = System.currentTimeMillis();
+        logger.info("Generating dataset: seed={}, users={}, projects={}, issues={}, comments/issue={}, activities/issue={}",
+            randomSeed, userCount, projectCount, issueCount, commentsPerIssue, activitiesPerIssue);
+
+        long firstUserId = nextId("users");
+        long firstProjectId = nextId("projects");
+        long nextIssueId = nextId("issues");
+        long nextCommentId = nextId("comments");
+        long nextActivityId = nextId("activity_logs");
+
+        insertUsers(firstUserId);
+        insertProjects(firstProjectId, firstUserId);
+
+        List<Object[]> issues = new ArrayList<>(batchSize);
+        List<Object[]> comments = new ArrayList<>();
+        List<Object[]> activities = new ArrayList<>();
+        long commentTotal = 0;
+        long activityTotal = 0;
+        for (long n = 0; n < issueCount; n++) {
+            long issueId = nextIssueId++;
+            // Issues are generated oldest first, spread evenly over the period
+            double age = 1.0 - (double) n / Math.max(issueCount, 1);
+            LocalDateTime createdAt = end.minusMinutes((long) (age * days * 24 * 60));
+            IssueStatus status = status(age);
+            IssuePriority priority = priority();
+            long projectId = firstProjectId + (long) (projectCount * Math.pow(random.nextDouble(), projectSkew));
+            long creatorId = userId(firstUserId);
+            Long assigneeId = random.nextInt(10) < 3 ? null : userId(firstUserId);
+            LocalDateTime updatedAt = createdAt;
+
+            activities.add(new Object[] {nextActivityId++, issueId, ActivityType.ISSUE_CREATED.name(), creatorId,
+                null, null, Timestamp.valueOf(createdAt)});
+            if (status != IssueStatus.OPEN) {
+                updatedAt = later(updatedAt);
+                activities.add(new Object[] {nextActivityId++, issueId, ActivityType.STATUS_CHANGED.name(),
+                    assigneeId != null ? assigneeId : creatorId, IssueStatus.OPEN.toString(),
+                    IssueStatus.IN_PROGRESS.toString(), Timestamp.valueOf(updatedAt)});
+            }
+            if (status == IssueStatus.CLOSED) {
+                updatedAt = later(updatedAt);
+                activities.add(new Object[] {nextActivityId++, issueId, ActivityType.STATUS_CHANGED.name(),
+                    assigneeId != null ? assigneeId : creatorId, IssueStatus.IN_PROGRESS.toString(),
+                    IssueStatus.CLOSED.toString(), Timestamp.valueOf(updatedAt)});
+            }
+            for (int i = sample(activitiesPerIssue); i > 0; i--) {
+                updatedAt = later(updatedAt);
+                ActivityType type = EXTRA_ACTIVITY[random.nextInt(EXTRA_ACTIVITY.length)];
+                activities.add(new Object[] {nextActivityId++, issueId, type.name(), userId(firstUserId),
+                    oldValue(type), newValue(type, priority), Timestamp.valueOf(updatedAt)});
+            }
+            LocalDateTime commentedAt = createdAt;
+            for (int i = sample(commentsPerIssue); i > 0; i--) {
+                commentedAt = later(commentedAt);
+                long authorId = random.nextBoolean() ? creatorId : userId(firstUserId);
+                comments.add(new Object[] {nextCommentId++, REMARKS[random.nextInt(REMARKS.length)], issueId, authorId,
+                    Timestamp.valueOf(commentedAt)});
+                activities.add(new Object[] {nextActivityId++, issueId, ActivityType.COMMENT_ADDED.name(), authorId,
+                    null, null, Timestamp.valueOf(commentedAt)});
+            }
+
+            String area = AREAS[random.nextInt(AREAS.length)];
+            String symptom = SYMPTOMS[random.nextInt(SYMPTOMS.length)];
+            issues.add(new Object[] {issueId, area + " " + symptom, description(area, symptom), status.name(),
+                priority.name(), projectId, assigneeId, creatorId, Timestamp.valueOf(createdAt),
+                Timestamp.valueOf(updatedAt.isAfter(commentedAt) ? updatedAt : commentedAt)});
+
+            if (issues.size() >= batchSize) {
+                commentTotal += comments.size();
+                activityTotal += activities.size();
+                flush(issues, comments, activities);
+                if ((n + 1) % (batchSize * 100L) == 0) {
+                    logger.info("Generated {} of {} issues", n + 1, issueCount);
+                }
+            }
+        }
+        commentTotal += comments.size();
+        activityTotal += activities.size();
+        flush(issues, comments, activities);
+
+        restartIdentity("users", firstUserId + userCount);
+        restartIdentity("projects", firstProjectId + projectCount);
+        restartIdentity("issues", nextIssueId);
+        restartIdentity("comments", nextCommentId);
+        restartIdentity("activity_logs", nextActivityId);
+
+        projectStatsService.reconcile();
+
+        logger.info("Generated {} users, {} projects, {} issues, {} comments, {} activity logs in {} s",
+            userCount, projectCount, issueCount, commentTotal, activityTotal, (System.currentTimeMillis() - started) / 1000);
+
+        if (exitWhenDone) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+
+    private void insertUsers(long firstUserId) {
+        String hash = passwordEncoder.encode(password);
+        List<Object[]> rows = new ArrayList<>(batchSize);
+        for (int n = 1; n <= userCount; n++) {
+            String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            rows.add(new Object[] {firstUserId + n - 1, name, email(n), hash,
+                Timestamp.valueOf(end.minusDays(days).minusMinutes(random.nextInt(60 * 24 * 30)))});
+            if (rows.size() >= batchSize) {
+                insert(INSERT_USER, rows);
+            }
+        }
+        insert(INSERT_USER, rows);
+    }
+
+    private void insertProjects(long firstProjectId, long firstUserId) {
+        List<Object[]> rows = new ArrayList<>(batchSize);
+        for (int n = 1; n <= projectCount; n++) {
+            Timestamp createdAt = Timestamp.valueOf(end.minusDays(days).plusMinutes(random.nextInt(60 * 24 * 30)));
+            rows.add(new Object[] {firstProjectId + n - 1, "Project " + n, userId(firstUserId), createdAt, createdAt});
+            if (rows.size() >= batchSize) {
+                insert(INSERT_PROJECT, rows);
+            }
+        }
+        insert(INSERT_PROJECT, rows);
+    }
+
+    private void flush(List<Object[]> issues, List<Object[]> comments, List<Object[]> activities) {
+        transactionTemplate.executeWithoutResult(tx -> {
+            insert(INSERT_ISSUE, issues);
+            insert(INSERT_COMMENT, comments);
+            insert(INSERT_ACTIVITY, activities);
+        });
+    }
+
+    private void insert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += batchSize) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + batchSize)));
+        }
+        rows.clear();
+    }
+
+    private long nextId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        return (max != null ? max : 0) + 1;
+    }
+
+    private void restartIdentity(String table, long next) {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+            connection.getMetaData().getDatabaseProductName());
+        if ("PostgreSQL".equals(product)) {
+            jdbcTemplate.queryForObject("SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), ?)", Long.class, next - 1);
+        } else {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+        }
+    }
+
+    private IssueStatus status(double age) {
+        // Half of the newest issues are still open, almost none of the oldest
+        double r = random.nextDouble();
+        double open = 0.05 + 0.45 * (1.0 - age);
+        if (r < open) {
+            return IssueStatus.OPEN;
+        }
+        return r < open + 0.15 ? IssueStatus.IN_PROGRESS : IssueStatus.CLOSED;
+    }
+
+    private IssuePriority priority() {
+        int r = random.nextInt(100);
+        if (r < 25) {
+            return IssuePriority.LOW;
+        }
+        if (r < 70) {
+            return IssuePriority.MEDIUM;
+        }
+        return r < 92 ? IssuePriority.HIGH : IssuePriority.CRITICAL;
+    }
+
+    private int sample(double mean) {
+        if (mean <= 0) {
+            return 0;
+        }
+        return (int) Math.round(-mean * Math.log(1.0 - random.nextDouble()));
+    }
+
+    private LocalDateTime later(LocalDateTime time) {
+        LocalDateTime next = time.plusMinutes(1 + random.nextInt(60 * 24 * 3));
+        return next.isAfter(end) ? end : next;
+    }
+
+    private long userId(long firstUserId) {
+        return firstUserId + random.nextInt(userCount);
+    }
+
+    private String email(int n) {
+        return "seed" + randomSeed + "-user" + n + "@example.com";
+    }
+
+    private String description(String area, String symptom) {
+        return area + " " + symptom + ". Steps to reproduce: open " + area.toLowerCase()
+            + ", repeat the last action, observe the result. Seen by " + (1 + random.nextInt(50)) + " users this week.";
+    }
+
+    private String oldValue(ActivityType type) {
+        return switch (type) {
+            case PRIORITY_CHANGED -> IssuePriority.MEDIUM.toString();
+            case TITLE_CHANGED -> "Untitled";
+            default -> null;
+        };
+    }
+
+    private String newValue(ActivityType type, IssuePriority priority) {
+        return switch (type) {
+            case PRIORITY_CHANGED -> priority.toString();
+            case ASSIGNEE_CHANGED -> FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            case TITLE_CHANGED -> AREAS[random.nextInt(AREAS.length)];
+            default -> null;
+        };
+    }
+}
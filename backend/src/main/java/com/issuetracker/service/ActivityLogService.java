@@ -1,16 +1,19 @@
 package com.issuetracker.service;
 
 import com.issuetracker.dto.ActivityLogDto;
+import com.issuetracker.dto.PageResponse;
+import com.issuetracker.jfr.ActivityLogWriteEvent;
 import com.issuetracker.model.ActivityLog;
 import com.issuetracker.model.ActivityType;
 import com.issuetracker.model.Issue;
-import com.issuetracker.model.User;
 import com.issuetracker.repository.ActivityLogRepository;
 import com.issuetracker.repository.IssueRepository;
+import com.issuetracker.security.AuthenticatedUser;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,6 +22,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("service.method")
 public class ActivityLogService {
     
     @Autowired
@@ -28,11 +32,12 @@ public class ActivityLogService {
     private IssueRepository issueRepository;
     
     @Autowired
-    private com.issuetracker.repository.UserRepository userRepository;
+    private CurrentUserService currentUserService;
     
     @Autowired
-    private SimpMessagingTemplate messagingTemplate;
+    private EventPublisher eventPublisher;
     
+    @Transactional(readOnly = true)
     public List<ActivityLogDto> getActivityLogsByIssueId(Long issueId) {
         List<ActivityLog> logs = activityLogRepository.findByIssueIdOrderByCreatedAtDesc(issueId);
         return logs.stream()
@@ -40,37 +45,49 @@ public class ActivityLogService {
                 .collect(Collectors.toList());
     }
     
+    @Transactional(readOnly = true)
+    public PageResponse<ActivityLogDto> getLatestActivityLogsByIssueId(Long issueId, int size) {
+        PageRequest pageable = PageRequest.of(0, size,
+            Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id")));
+        Page<ActivityLog> page = activityLogRepository.findByIssueIdWithUser(issueId, pageable);
+        return new PageResponse<>(
+            page.getContent().stream()
+                .map(this::convertToDto)
+                .collect(Collectors.toList()),
+            page.getNumber(),
+            page.getSize(),
+            page.getTotalElements(),
+            page.getTotalPages(),
+            page.isLast()
+        );
+    }
+    
     @Transactional(propagation = Propagation.REQUIRES_NEW, rollbackFor = Exception.class)
     public ActivityLogDto createActivityLog(Issue issue, ActivityType activityType, 
                                              String oldValue, String newValue) {
+        ActivityLogWriteEvent jfrEvent = new ActivityLogWriteEvent();
+        jfrEvent.begin();
+        
         // Re-fetch issue in this transaction so we have a managed entity (caller may pass detached)
         Issue managedIssue = issueRepository.findById(issue.getId())
             .orElseThrow(() -> new RuntimeException("Issue not found"));
         
-        // Get current authenticated user
-        org.springframework.security.core.Authentication authentication = 
-            SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !(authentication.getPrincipal() instanceof UserDetails)) {
-            throw new RuntimeException("User not authenticated");
-        }
-        
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        User user = userRepository.findByEmail(userDetails.getUsername())
-            .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthenticatedUser currentUser = currentUserService.getCurrentUser();
         
         ActivityLog log = new ActivityLog();
         log.setIssue(managedIssue);
         log.setActivityType(activityType);
-        log.setUser(user);
+        log.setUser(currentUserService.getCurrentUserReference());
         log.setOldValue(oldValue);
         log.setNewValue(newValue);
         
         log = activityLogRepository.save(log);
         
-        ActivityLogDto dto = convertToDto(log);
+        // User details come from the principal so the user reference is never loaded
+        ActivityLogDto dto = convertToDto(log, currentUser.getName());
         
         // Publish WebSocket event
-        if (messagingTemplate != null) {
+        if (eventPublisher != null) {
             com.issuetracker.dto.ActivityLogUpdateEvent event = 
                 new com.issuetracker.dto.ActivityLogUpdateEvent(
                     "CREATED",
@@ -82,18 +99,24 @@ public class ActivityLogService {
                     dto.getOldValue(),
                     dto.getNewValue()
                 );
-            messagingTemplate.convertAndSend("/topic/issues/" + managedIssue.getId() + "/activities", event);
+            eventPublisher.publish("/topic/issues/" + managedIssue.getId() + "/activities",
+                managedIssue.getProject().getId(), event);
         }
         
+        jfrEvent.record(activityType.name(), managedIssue.getId());
         return dto;
     }
     
     private ActivityLogDto convertToDto(ActivityLog log) {
+        return convertToDto(log, log.getUser().getName());
+    }
+    
+    private ActivityLogDto convertToDto(ActivityLog log, String userName) {
         ActivityLogDto dto = new ActivityLogDto();
         dto.setId(log.getId());
         dto.setActivityType(log.getActivityType());
         dto.setUserId(log.getUser().getId());
-        dto.setUserName(log.getUser().getName());
+        dto.setUserName(userName);
         dto.setOldValue(log.getOldValue());
         dto.setNewValue(log.getNewValue());
         dto.setCreatedAt(log.getCreatedAt());
@@ -1,74 +1,103 @@
 package com.issuetracker.service;
 
+import com.issuetracker.config.ReadWriteRoutingDataSource;
 import com.issuetracker.dto.AuthRequest;
 import com.issuetracker.dto.AuthResponse;
 import com.issuetracker.dto.SignupRequest;
+import com.issuetracker.dto.UserChangedEvent;
 import com.issuetracker.model.User;
 import com.issuetracker.repository.UserRepository;
 import com.issuetracker.util.JwtUtil;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.Lazy;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Timed("service.method")
 public class AuthService implements UserDetailsService {
     
     @Autowired
     private UserRepository userRepository;
     
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
     
     @Autowired
     private JwtUtil jwtUtil;
     
     @Autowired
-    @Lazy
-    private AuthenticationManager authenticationManager;
+    private EventPublisher eventPublisher;
     
-    @Transactional
+    // Compared against when the email is unknown, so both cases cost one hash verification
+    private volatile String unknownUserPassword;
+    
+    // Not @Transactional: hashing happens before any connection is taken, and save() commits on its own
     public AuthResponse signup(SignupRequest signupRequest) {
         if (userRepository.existsByEmail(signupRequest.getEmail())) {
             throw new RuntimeException("Email already exists");
         }
         
+        String encodedPassword = passwordHashingService.encode(signupRequest.getPassword());
+        
         User user = new User();
         user.setName(signupRequest.getName());
         user.setEmail(signupRequest.getEmail());
-        String encodedPassword = passwordEncoder.encode(signupRequest.getPassword());
         user.setPassword(encodedPassword);
         
         user = userRepository.save(user);
         
-        String token = jwtUtil.generateToken(user.getEmail());
+        // Drop any principal cached for this email (on every node) once the account is committed
+        eventPublisher.publish(UserDetailsCache.USER_CHANGED_DESTINATION, null, new UserChangedEvent(user.getEmail()));
+        
+        String token = jwtUtil.generateToken(user);
         
         return new AuthResponse(token, user.getEmail(), user.getName(), user.getId());
     }
     
+    /**
+     * Verifies the password on the hashing executor (the user row is read on the calling thread, from
+     * the primary so an account can log in right after signing up, before the replica has it).
+     * Hashes made with a BCrypt cost other than the configured one are re-encoded on successful login.
+     *
+     * @throws BadCredentialsException for an unknown email or wrong password
+     * @throws PasswordHashingBusyException when the hashing executor is saturated
+     */
     public AuthResponse login(AuthRequest authRequest) {
-        Authentication authentication = authenticationManager.authenticate(
-            new UsernamePasswordAuthenticationToken(
-                authRequest.getEmail(),
-                authRequest.getPassword()
-            )
-        );
+        User user = ReadWriteRoutingDataSource.onPrimary(() -> userRepository.findByEmail(authRequest.getEmail()))
+            .orElse(null);
+        
+        if (user == null) {
+            passwordHashingService.matches(authRequest.getPassword(), getUnknownUserPassword());
+            throw new BadCredentialsException("Invalid email or password");
+        }
+        if (!passwordHashingService.matches(authRequest.getPassword(), user.getPassword())) {
+            throw new BadCredentialsException("Invalid email or password");
+        }
         
-        User user = userRepository.findByEmail(authRequest.getEmail())
-            .orElseThrow(() -> new RuntimeException("User not found"));
+        if (passwordHashingService.needsRehash(user.getPassword())) {
+            user.setPassword(passwordHashingService.encode(authRequest.getPassword()));
+            user = userRepository.save(user);
+            // Other nodes may hold the old row in their second-level cache
+            eventPublisher.publish(UserDetailsCache.USER_CHANGED_DESTINATION, null,
+                new UserChangedEvent(user.getEmail(), user.getId()));
+        }
         
-        String token = jwtUtil.generateToken(user.getEmail());
+        String token = jwtUtil.generateToken(user);
         
         return new AuthResponse(token, user.getEmail(), user.getName(), user.getId());
     }
     
+    private String getUnknownUserPassword() {
+        if (unknownUserPassword == null) {
+            unknownUserPassword = passwordHashingService.encode("unknown-user-placeholder");
+        }
+        return unknownUserPassword;
+    }
+    
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         User user = userRepository.findByEmail(email)
@@ -3,25 +3,29 @@ package com.issuetracker.service;
 import com.issuetracker.dto.CommentDto;
 import com.issuetracker.dto.CommentUpdateEvent;
 import com.issuetracker.dto.CreateCommentRequest;
+import com.issuetracker.dto.PageResponse;
+import com.issuetracker.jfr.CommentWriteEvent;
 import com.issuetracker.model.ActivityType;
 import com.issuetracker.model.Comment;
 import com.issuetracker.model.Issue;
-import com.issuetracker.model.User;
 import com.issuetracker.repository.CommentRepository;
 import com.issuetracker.repository.IssueRepository;
-import com.issuetracker.repository.UserRepository;
+import com.issuetracker.security.AuthenticatedUser;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("service.method")
 public class CommentService {
     
     @Autowired
@@ -30,41 +34,37 @@ public class CommentService {
     @Autowired
     private IssueRepository issueRepository;
     
-    @Autowired
-    private UserRepository userRepository;
-    
     @Autowired
     private AuthService authService;
     
     @Autowired
-    private SimpMessagingTemplate messagingTemplate;
+    private EventPublisher eventPublisher;
     
     @Autowired
     private ActivityLogService activityLogService;
     
+    @Autowired
+    private CurrentUserService currentUserService;
+    
     @Transactional
     public CommentDto createComment(Long issueId, CreateCommentRequest request) {
+        CommentWriteEvent jfrEvent = new CommentWriteEvent("CREATE");
+        jfrEvent.begin();
+        
         Issue issue = issueRepository.findById(issueId)
             .orElseThrow(() -> new RuntimeException("Issue not found"));
         
-        // Get current authenticated user
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !(authentication.getPrincipal() instanceof UserDetails)) {
-            throw new RuntimeException("User not authenticated");
-        }
-        
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        User author = userRepository.findByEmail(userDetails.getUsername())
-            .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthenticatedUser currentUser = currentUserService.getCurrentUser();
         
         Comment comment = new Comment();
         comment.setContent(request.getContent());
         comment.setIssue(issue);
-        comment.setAuthor(author);
+        comment.setAuthor(currentUserService.getCurrentUserReference());
         
         comment = commentRepository.save(comment);
         
-        CommentDto dto = convertToDto(comment);
+        // Author details come from the principal so the author reference is never loaded
+        CommentDto dto = convertToDto(comment, currentUser.getName());
         
         // Activity log: comment added
         if (activityLogService != null) {
@@ -84,11 +84,13 @@ public class CommentService {
             dto.getAuthorId(),
             dto.getAuthorName()
         );
-        messagingTemplate.convertAndSend("/topic/issues/" + issueId + "/comments", event);
+        eventPublisher.publish("/topic/issues/" + issueId + "/comments", issue.getProject().getId(), event);
         
+        jfrEvent.record(dto.getId(), issueId);
         return dto;
     }
     
+    @Transactional(readOnly = true)
     public List<CommentDto> getCommentsByIssueId(Long issueId) {
         Issue issue = issueRepository.findById(issueId)
             .orElseThrow(() -> new RuntimeException("Issue not found"));
@@ -99,16 +101,34 @@ public class CommentService {
             .collect(Collectors.toList());
     }
     
+    /**
+     * The newest {@code size} comments of an issue, returned oldest first like
+     * {@link #getCommentsByIssueId(Long)}; page 0 is the newest page.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<CommentDto> getLatestCommentsByIssueId(Long issueId, int size) {
+        PageRequest pageable = PageRequest.of(0, size,
+            Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id")));
+        Page<Comment> page = commentRepository.findByIssueIdWithAuthor(issueId, pageable);
+        List<CommentDto> content = new ArrayList<>(page.getContent().stream()
+            .map(this::convertToDto)
+            .collect(Collectors.toList()));
+        Collections.reverse(content);
+        return new PageResponse<>(content, page.getNumber(), page.getSize(),
+            page.getTotalElements(), page.getTotalPages(), page.isLast());
+    }
+    
     @Transactional
     public CommentDto updateComment(Long commentId, CreateCommentRequest request) {
+        CommentWriteEvent jfrEvent = new CommentWriteEvent("UPDATE");
+        jfrEvent.begin();
+        
         // Fetch comment with author eagerly loaded
         Comment comment = commentRepository.findByIdWithAuthor(commentId)
             .orElseThrow(() -> new RuntimeException("Comment not found"));
         
-        // Verify current user is the author - compare by email
-        String currentUserEmail = getCurrentUserEmail();
-        String authorEmail = comment.getAuthor().getEmail();
-        if (!authorEmail.equals(currentUserEmail)) {
+        // Verify current user is the author
+        if (!comment.getAuthor().getId().equals(currentUserService.getCurrentUserId())) {
             throw new RuntimeException("You can only edit your own comments");
         }
         
@@ -140,21 +160,24 @@ public class CommentService {
             dto.getAuthorId(),
             dto.getAuthorName()
         );
-        messagingTemplate.convertAndSend("/topic/issues/" + comment.getIssue().getId() + "/comments", event);
+        eventPublisher.publish("/topic/issues/" + comment.getIssue().getId() + "/comments",
+            comment.getIssue().getProject().getId(), event);
         
+        jfrEvent.record(dto.getId(), comment.getIssue().getId());
         return dto;
     }
     
     @Transactional
     public void deleteComment(Long commentId) {
+        CommentWriteEvent jfrEvent = new CommentWriteEvent("DELETE");
+        jfrEvent.begin();
+        
         // Fetch comment with author eagerly loaded
         Comment comment = commentRepository.findByIdWithAuthor(commentId)
             .orElseThrow(() -> new RuntimeException("Comment not found"));
         
-        // Verify current user is the author - compare by email
-        String currentUserEmail = getCurrentUserEmail();
-        String authorEmail = comment.getAuthor().getEmail();
-        if (!authorEmail.equals(currentUserEmail)) {
+        // Verify current user is the author
+        if (!comment.getAuthor().getId().equals(currentUserService.getCurrentUserId())) {
             throw new RuntimeException("You can only delete your own comments");
         }
         
@@ -186,36 +209,21 @@ public class CommentService {
             authorId,
             authorName
         );
-        messagingTemplate.convertAndSend("/topic/issues/" + issueId + "/comments", event);
-    }
-    
-    private String getCurrentUserEmail() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !(authentication.getPrincipal() instanceof UserDetails)) {
-            throw new RuntimeException("User not authenticated");
-        }
+        eventPublisher.publish("/topic/issues/" + issueId + "/comments", issue.getProject().getId(), event);
         
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        return userDetails.getUsername(); // Username is the email
+        jfrEvent.record(deletedCommentId, issueId);
     }
     
-    private User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !(authentication.getPrincipal() instanceof UserDetails)) {
-            throw new RuntimeException("User not authenticated");
-        }
-        
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        return userRepository.findByEmail(userDetails.getUsername())
-            .orElseThrow(() -> new RuntimeException("User not found"));
+    private CommentDto convertToDto(Comment comment) {
+        return convertToDto(comment, comment.getAuthor().getName());
     }
     
-    private CommentDto convertToDto(Comment comment) {
+    private CommentDto convertToDto(Comment comment, String authorName) {
         CommentDto dto = new CommentDto();
         dto.setId(comment.getId());
         dto.setContent(comment.getContent());
         dto.setAuthorId(comment.getAuthor().getId());
-        dto.setAuthorName(comment.getAuthor().getName());
+        dto.setAuthorName(authorName);
         dto.setCreatedAt(comment.getCreatedAt());
         return dto;
     }
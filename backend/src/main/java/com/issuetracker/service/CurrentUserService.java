@@ -0,0 +1,58 @@
+package com.issuetracker.service;
+
+import com.issuetracker.model.User;
+import com.issuetracker.repository.UserRepository;
+import com.issuetracker.security.AuthenticatedUser;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+
+/**
+ * Access to the user behind the current request. Token-authenticated requests already carry an
+ * {@link AuthenticatedUser}, so this costs no query; other principals (e.g. from form login or
+ * tests) are resolved by email once and replaced in the request's security context.
+ */
+@Service
+public class CurrentUserService {
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    public AuthenticatedUser getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserDetails)) {
+            throw new RuntimeException("User not authenticated");
+        }
+        
+        if (authentication.getPrincipal() instanceof AuthenticatedUser authenticatedUser) {
+            return authenticatedUser;
+        }
+        
+        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+        User user = userRepository.findByEmail(userDetails.getUsername())
+            .orElseThrow(() -> new RuntimeException("User not found"));
+        AuthenticatedUser authenticatedUser = new AuthenticatedUser(user.getId(), user.getEmail(), user.getName());
+        
+        // Swap the principal in this request's context so later calls don't query again
+        UsernamePasswordAuthenticationToken upgraded = new UsernamePasswordAuthenticationToken(
+            authenticatedUser, authentication.getCredentials(), authentication.getAuthorities());
+        upgraded.setDetails(authentication.getDetails());
+        SecurityContextHolder.getContext().setAuthentication(upgraded);
+        return authenticatedUser;
+    }
+    
+    public Long getCurrentUserId() {
+        return getCurrentUser().getId();
+    }
+    
+    /**
+     * Uninitialized reference to the current user, for setting associations. Reading anything
+     * other than the id from it loads the row.
+     */
+    public User getCurrentUserReference() {
+        return userRepository.getReferenceById(getCurrentUserId());
+    }
+}
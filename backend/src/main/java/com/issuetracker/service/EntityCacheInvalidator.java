@@ -0,0 +1,52 @@
+package com.issuetracker.service;
+
+import com.issuetracker.dto.ProjectChangedEvent;
+import com.issuetracker.dto.UserChangedEvent;
+import com.issuetracker.events.EventBus;
+import com.issuetracker.model.Project;
+import com.issuetracker.model.User;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the second-level cache of {@code User} and {@code Project} coherent across nodes.
+ *
+ * Hibernate updates the local cache when this node commits a change; other nodes only learn of
+ * it through the {@link EventBus}. Services publish a {@link ProjectChangedEvent} or
+ * {@link UserChangedEvent} (after commit, via {@link EventPublisher}) and every node evicts the
+ * entity here. The email-to-id mapping never changes, so the natural-id region needs no eviction.
+ */
+@Component
+public class EntityCacheInvalidator {
+
+    public static final String PROJECT_CHANGED_DESTINATION = "/internal/projects/changed";
+
+    @Autowired
+    private EventBus eventBus;
+
+    @Autowired
+    private EventPublisher eventPublisher;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    void init() {
+        eventBus.subscribe(event -> {
+            if (event.getPayload() instanceof ProjectChangedEvent changed
+                    && PROJECT_CHANGED_DESTINATION.equals(event.getDestination())) {
+                entityManagerFactory.getCache().evict(Project.class, changed.getProjectId());
+            } else if (event.getPayload() instanceof UserChangedEvent changed
+                    && UserDetailsCache.USER_CHANGED_DESTINATION.equals(event.getDestination())
+                    && changed.getUserId() != null) {
+                entityManagerFactory.getCache().evict(User.class, changed.getUserId());
+            }
+        });
+    }
+
+    public void projectChanged(Long projectId) {
+        eventPublisher.publish(PROJECT_CHANGED_DESTINATION, null, new ProjectChangedEvent(projectId));
+    }
+}
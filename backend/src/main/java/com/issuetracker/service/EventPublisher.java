@@ -0,0 +1,86 @@
+package com.issuetracker.service;
+
+import com.issuetracker.events.ClusterEvent;
+import com.issuetracker.events.EventBus;
+import com.issuetracker.jfr.WebSocketPublishEvent;
+import com.issuetracker.tracing.RequestTrace;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+
+/**
+ * Single entry point for real-time events. Events go onto the {@link EventBus}, which hands them back
+ * on every node; each node then delivers to its own STOMP subscribers via the message broker and to
+ * its Server-Sent Events subscribers via {@link EventStreamService}.
+ *
+ * Events published inside a transaction are held until it commits (and dropped on rollback), so a
+ * client that sees an event can always read the change it describes.
+ */
+@Service
+public class EventPublisher {
+
+    /** STOMP header carrying the bus sequence, compared against {@code IssueSnapshot.sequence}. */
+    public static final String SEQUENCE_HEADER = "event-seq";
+
+    @Autowired
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Autowired
+    private EventStreamService eventStreamService;
+
+    @Autowired
+    private EventBus eventBus;
+
+    private volatile long lastDeliveredSequence;
+
+    @PostConstruct
+    void subscribeToBus() {
+        eventBus.subscribe(this::deliverLocally);
+    }
+
+    public void publish(String destination, Long projectId, Object event) {
+        ClusterEvent clusterEvent = new ClusterEvent(destination, projectId, event);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eventBus.publish(clusterEvent);
+                }
+            });
+        } else {
+            eventBus.publish(clusterEvent);
+        }
+    }
+
+    /**
+     * Sequence of the last event handed to this node's broker. Every STOMP subscription registered
+     * before this call will receive all events after it.
+     */
+    public long getLastDeliveredSequence() {
+        return lastDeliveredSequence;
+    }
+
+    private void deliverLocally(ClusterEvent event) {
+        if (!event.getDestination().startsWith("/topic/")) {
+            return; // Internal bus traffic, not for clients
+        }
+        WebSocketPublishEvent jfrEvent = new WebSocketPublishEvent();
+        jfrEvent.begin();
+        // Traced when delivered on the publishing request's thread (in-memory bus)
+        RequestTrace.Span span = RequestTrace.begin("stomp", "convertAndSend " + event.getDestination());
+        try {
+            messagingTemplate.convertAndSend(event.getDestination(), event.getPayload(),
+                Map.of(SEQUENCE_HEADER, String.valueOf(event.getSequence())));
+        } finally {
+            RequestTrace.end(span);
+        }
+        eventStreamService.publish(event.getSequence(), event.getDestination(), event.getProjectId(), event.getPayload());
+        jfrEvent.record(event.getDestination(), event.getPayload(), event.getSequence(), event.getProjectId());
+        lastDeliveredSequence = event.getSequence();
+    }
+}
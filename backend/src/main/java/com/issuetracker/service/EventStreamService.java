@@ -0,0 +1,341 @@
+package com.issuetracker.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Server-Sent Events fan-out for the same issue/comment/activity events that go to the STOMP broker.
+ *
+ * Connections are held as async servlet responses, so an idle subscriber costs no thread. Publishing
+ * and subscribing only append to per-subscriber queues under the replay-buffer lock, which fixes the
+ * order (replay before live events); the writes happen outside it on a small writer pool. Each turn
+ * sends at most {@code events.sse.writes-per-turn} events to one subscriber before yielding the
+ * thread, so a slow socket delays only its own stream. A subscriber whose queue reaches
+ * {@code events.sse.max-queued-events} is disconnected and resumes from the replay buffer (or gets a
+ * reset) when its client reconnects with Last-Event-ID.
+ */
+@Service
+public class EventStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EventStreamService.class);
+
+    @Value("${events.sse.replay-buffer-size:1000}")
+    private int replayBufferSize;
+
+    @Value("${events.sse.timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    @Value("${events.sse.heartbeat-ms:15000}")
+    private long heartbeatMs;
+
+    @Value("${events.sse.max-queued-events:1000}")
+    private int maxQueuedEvents;
+
+    @Value("${events.sse.writes-per-turn:16}")
+    private int writesPerTurn;
+
+    @Value("${events.sse.writer-threads:4}")
+    private int writerThreads;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    // Guarded by itself; also serializes "append + schedule" against "replay + register"
+    private final Deque<StreamEvent> replayBuffer = new ArrayDeque<>();
+
+    // Highest id no longer in the replay buffer, guarded by replayBuffer. Ids have holes (bus events
+    // that are not for clients), so only this tells whether a client missed anything
+    private long evictedThrough;
+
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "sse-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private ExecutorService writers;
+
+    @PostConstruct
+    void start() {
+        AtomicInteger threadCount = new AtomicInteger();
+        writers = Executors.newFixedThreadPool(writerThreads, r -> {
+            Thread thread = new Thread(r, "sse-writer-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeats, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeat.shutdownNow();
+        writers.shutdownNow();
+        subscriptions.forEach(subscription -> subscription.emitter.complete());
+        subscriptions.clear();
+    }
+
+    /**
+     * Opens a stream, optionally limited to one project. When lastEventId is given, buffered events
+     * after it are replayed first; if it is older than the buffer a "reset" event tells the client to
+     * reload its state over REST.
+     */
+    public SseEmitter subscribe(Long projectId, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscription subscription = new Subscription(emitter, projectId);
+
+        Runnable remove = () -> {
+            subscriptions.remove(subscription);
+            subscription.close();
+        };
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        synchronized (replayBuffer) {
+            long currentId = sequence.get();
+            if (lastEventId != null) {
+                // A Last-Event-ID ahead of us means the client saw a previous run of this node
+                boolean gap = lastEventId > currentId || lastEventId < evictedThrough;
+                if (gap) {
+                    subscription.offer(SseEmitter.event().id(String.valueOf(currentId)).name("reset").data(currentId));
+                }
+                for (StreamEvent event : replayBuffer) {
+                    if (event.id > lastEventId && subscription.accepts(event)) {
+                        subscription.offer(event.toSse());
+                    }
+                }
+            }
+            subscriptions.add(subscription);
+        }
+        schedule(subscription);
+
+        return emitter;
+    }
+
+    /**
+     * Appends an event to the replay buffer and schedules delivery to matching subscribers.
+     *
+     * @param id          the event bus sequence, sent as the SSE event id
+     * @param destination the STOMP destination the event was published to, used to derive the SSE event name
+     * @param projectId   the project the event belongs to, used for the projectId filter
+     */
+    public void publish(long id, String destination, Long projectId, Object payload) {
+        StreamEvent event = new StreamEvent(id, eventName(destination), projectId, payload);
+        List<Subscription> targets = new ArrayList<>();
+        synchronized (replayBuffer) {
+            if (sequence.get() == 0) {
+                // Whatever came before the first event this node saw is as good as evicted
+                evictedThrough = id - 1;
+            }
+            sequence.accumulateAndGet(id, Math::max);
+            replayBuffer.addLast(event);
+            while (replayBuffer.size() > replayBufferSize) {
+                evictedThrough = replayBuffer.pollFirst().id;
+            }
+            // Queued in the lock so every subscriber sees events in publish order; nothing is written here
+            for (Subscription subscription : subscriptions) {
+                if (subscription.accepts(event)) {
+                    if (subscription.offer(event.toSse())) {
+                        targets.add(subscription);
+                    } else {
+                        overflow(subscription);
+                    }
+                }
+            }
+        }
+        targets.forEach(this::schedule);
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    private void sendHeartbeats() {
+        long idleSince = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(heartbeatMs);
+        for (Subscription subscription : subscriptions) {
+            // Streams that wrote anything within the last interval are not idle and get none
+            if (subscription.lastSentNanos - idleSince <= 0
+                    && subscription.offer(SseEmitter.event().comment("keepalive"))) {
+                schedule(subscription);
+            }
+        }
+    }
+
+    private void schedule(Subscription subscription) {
+        if (subscription.startDrain()) {
+            try {
+                writers.execute(() -> drain(subscription));
+            } catch (RejectedExecutionException e) {
+                // Shutting down
+            }
+        }
+    }
+
+    // One turn: at most writesPerTurn events, then the thread goes back to the pool
+    private void drain(Subscription subscription) {
+        for (int i = 0; i < writesPerTurn; i++) {
+            SseEmitter.SseEventBuilder next = subscription.poll();
+            if (next == null) {
+                return;
+            }
+            if (!send(subscription, next)) {
+                return;
+            }
+        }
+        if (subscription.yieldTurn()) {
+            writers.execute(() -> drain(subscription));
+        }
+    }
+
+    private boolean send(Subscription subscription, SseEmitter.SseEventBuilder builder) {
+        try {
+            subscription.emitter.send(builder);
+            subscription.lastSentNanos = System.nanoTime();
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // Client went away - drop the subscription, the container completes the async request
+            subscriptions.remove(subscription);
+            subscription.close();
+            subscription.emitter.completeWithError(e);
+            return false;
+        } catch (Exception e) {
+            logger.warn("Failed to send SSE event", e);
+            return true;
+        }
+    }
+
+    private void overflow(Subscription subscription) {
+        logger.info("Closing SSE stream with {} queued events, the client resumes from Last-Event-ID",
+            subscription.queued());
+        subscriptions.remove(subscription);
+        subscription.close();
+        subscription.emitter.complete();
+    }
+
+    private static String eventName(String destination) {
+        if (destination.endsWith("/comments")) {
+            return "comment";
+        }
+        if (destination.endsWith("/activities")) {
+            return "activity";
+        }
+        return "issue";
+    }
+
+    private static final class StreamEvent {
+        private final long id;
+        private final String name;
+        private final Long projectId;
+        private final Object payload;
+
+        private StreamEvent(long id, String name, Long projectId, Object payload) {
+            this.id = id;
+            this.name = name;
+            this.projectId = projectId;
+            this.payload = payload;
+        }
+
+        private SseEmitter.SseEventBuilder toSse() {
+            return SseEmitter.event().id(String.valueOf(id)).name(name).data(payload);
+        }
+    }
+
+    private final class Subscription {
+        private final SseEmitter emitter;
+        private final Long projectId;
+
+        // Guarded by itself; draining is true while a writer owns this subscription
+        private final Deque<SseEmitter.SseEventBuilder> queue = new ArrayDeque<>();
+        private boolean draining;
+        private boolean closed;
+
+        // Counts as a write: a new stream gets its first heartbeat after one idle interval
+        private volatile long lastSentNanos = System.nanoTime();
+
+        private Subscription(SseEmitter emitter, Long projectId) {
+            this.emitter = emitter;
+            this.projectId = projectId;
+        }
+
+        private boolean accepts(StreamEvent event) {
+            return projectId == null || projectId.equals(event.projectId);
+        }
+
+        /** Queues an event; false when the subscriber is closed or already maxQueuedEvents behind. */
+        private boolean offer(SseEmitter.SseEventBuilder event) {
+            synchronized (queue) {
+                if (closed || queue.size() >= maxQueuedEvents) {
+                    return false;
+                }
+                queue.addLast(event);
+                return true;
+            }
+        }
+
+        private SseEmitter.SseEventBuilder poll() {
+            synchronized (queue) {
+                SseEmitter.SseEventBuilder next = closed ? null : queue.pollFirst();
+                if (next == null) {
+                    draining = false;
+                }
+                return next;
+            }
+        }
+
+        /** True if the caller should submit a drain: there is work and no writer has it yet. */
+        private boolean startDrain() {
+            synchronized (queue) {
+                if (draining || closed || queue.isEmpty()) {
+                    return false;
+                }
+                draining = true;
+                return true;
+            }
+        }
+
+        /** End of a full turn: true if the caller should resubmit (still queued), else releases the drain. */
+        private boolean yieldTurn() {
+            synchronized (queue) {
+                if (closed || queue.isEmpty()) {
+                    draining = false;
+                    return false;
+                }
+                return true;
+            }
+        }
+
+        private int queued() {
+            synchronized (queue) {
+                return queue.size();
+            }
+        }
+
+        private void close() {
+            synchronized (queue) {
+                closed = true;
+                queue.clear();
+            }
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.issuetracker.dto.CreateIssueRequest;
 import com.issuetracker.dto.IssueDto;
 import com.issuetracker.dto.IssueUpdateEvent;
 import com.issuetracker.dto.PageResponse;
+import com.issuetracker.jfr.IssueOperationEvent;
+import com.issuetracker.jfr.IssueQueryEvent;
 import com.issuetracker.model.ActivityType;
 import com.issuetracker.model.Issue;
 import com.issuetracker.model.IssuePriority;
@@ -13,20 +15,23 @@ import com.issuetracker.model.User;
 import com.issuetracker.repository.IssueRepository;
 import com.issuetracker.repository.ProjectRepository;
 import com.issuetracker.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.util.StringJoiner;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("service.method")
 public class IssueService {
     
     @Autowired
@@ -39,27 +44,28 @@ public class IssueService {
     private UserRepository userRepository;
     
     @Autowired
-    private SimpMessagingTemplate messagingTemplate;
+    private EventPublisher eventPublisher;
     
     @Autowired
     private ActivityLogService activityLogService;
     
+    @Autowired
+    private CurrentUserService currentUserService;
+    
+    @Autowired
+    private ProjectStatsService projectStatsService;
+    
     @Transactional
     public IssueDto createIssue(CreateIssueRequest request) {
+        IssueOperationEvent jfrEvent = new IssueOperationEvent("CREATE");
+        jfrEvent.begin();
+        
         Project project = projectRepository.findById(request.getProjectId())
+            .filter(p -> !p.isDeleted())
             .orElseThrow(() -> new RuntimeException("Project not found"));
         
-        // Get current authenticated user as creator
-        org.springframework.security.core.Authentication authentication = 
-            org.springframework.security.core.context.SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !(authentication.getPrincipal() instanceof org.springframework.security.core.userdetails.UserDetails)) {
-            throw new RuntimeException("User not authenticated");
-        }
-        
-        org.springframework.security.core.userdetails.UserDetails userDetails = 
-            (org.springframework.security.core.userdetails.UserDetails) authentication.getPrincipal();
-        User creator = userRepository.findByEmail(userDetails.getUsername())
-            .orElseThrow(() -> new RuntimeException("User not found"));
+        // Current authenticated user as creator (a reference - the reload below fetches it)
+        User creator = currentUserService.getCurrentUserReference();
         
         Issue issue = new Issue();
         issue.setTitle(request.getTitle());
@@ -77,6 +83,8 @@ public class IssueService {
         
         issue = issueRepository.save(issue);
         
+        projectStatsService.issueCreated(project.getId(), issue.getStatus(), issue.getPriority());
+        
         // Reload with creator and assignee eagerly fetched to ensure DTO conversion works
         issue = issueRepository.findByIdWithCreatorAndAssignee(issue.getId())
             .orElse(issue); // Fallback to original if query fails
@@ -93,7 +101,7 @@ public class IssueService {
         IssueDto dto = convertToDto(issue);
         
         // Publish WebSocket event after transaction commits
-        if (messagingTemplate != null) {
+        if (eventPublisher != null) {
             IssueUpdateEvent event = new IssueUpdateEvent(
                 "CREATED",
                 dto.getId(),
@@ -102,12 +110,14 @@ public class IssueService {
                 dto.getPriority(),
                 dto.getProjectId()
             );
-            messagingTemplate.convertAndSend("/topic/issues", event);
+            eventPublisher.publish("/topic/issues", dto.getProjectId(), event);
         }
         
+        jfrEvent.record(dto.getId(), dto.getProjectId());
         return dto;
     }
     
+    @Transactional(readOnly = true)
     public PageResponse<IssueDto> getIssues(
         Integer page,
         Integer size,
@@ -119,6 +129,9 @@ public class IssueService {
         Long projectId,
         String searchText
     ) {
+        IssueQueryEvent jfrEvent = new IssueQueryEvent();
+        jfrEvent.begin();
+        
         // Determine sort direction
         Sort.Direction direction = sortDir != null && sortDir.equalsIgnoreCase("desc") 
             ? Sort.Direction.DESC 
@@ -165,12 +178,42 @@ public class IssueService {
             pageable
         );
         
-        return convertToPageResponse(issuePage);
+        PageResponse<IssueDto> response = convertToPageResponse(issuePage);
+        
+        if (jfrEvent.shouldCommit()) {
+            jfrEvent.record(filterShape(status, priority, assigneeId, projectId, searchText), sort.toString(),
+                pageable.getPageNumber(), pageable.getPageSize(), issuePage.getNumberOfElements(), issuePage.getTotalElements());
+        }
+        return response;
     }
     
+    // Which filters are set, e.g. "status,projectId" - for the JFR query event
+    private static String filterShape(IssueStatus status, IssuePriority priority, Long assigneeId,
+                                      Long projectId, String searchText) {
+        StringJoiner shape = new StringJoiner(",");
+        if (status != null) {
+            shape.add("status");
+        }
+        if (priority != null) {
+            shape.add("priority");
+        }
+        if (assigneeId != null) {
+            shape.add("assigneeId");
+        }
+        if (projectId != null) {
+            shape.add("projectId");
+        }
+        if (searchText != null) {
+            shape.add("searchText");
+        }
+        return shape.toString();
+    }
+    
+    @Transactional(readOnly = true)
     public IssueDto getIssueById(Long id) {
         // Use custom query to eagerly fetch creator and assignee
         Issue issue = issueRepository.findByIdWithCreatorAndAssignee(id)
+            .filter(i -> !i.getProject().isDeleted())
             .orElseThrow(() -> new RuntimeException("Issue not found"));
         
         return convertToDto(issue);
@@ -178,8 +221,13 @@ public class IssueService {
     
     @Transactional
     public IssueDto updateIssue(Long id, CreateIssueRequest request) {
+        IssueOperationEvent jfrEvent = new IssueOperationEvent("UPDATE");
+        jfrEvent.begin();
+        
+        // Issues of a project being deleted are gone for clients, like in getIssueById
         Issue issue = issueRepository.findById(id)
-            .orElseThrow(() -> new RuntimeException("Issue not found"));
+            .filter(i -> !i.getProject().isDeleted())
+            .orElseThrow(() -> new EntityNotFoundException("Issue not found"));
         
         // Store old values for activity tracking
         String oldTitle = issue.getTitle();
@@ -204,6 +252,9 @@ public class IssueService {
         
         issue = issueRepository.save(issue);
         
+        projectStatsService.issueChanged(issue.getProject().getId(), oldStatus, oldPriority,
+            issue.getStatus(), issue.getPriority());
+        
         // Reload with creator and assignee eagerly fetched
         issue = issueRepository.findByIdWithCreatorAndAssignee(issue.getId())
             .orElse(issue); // Fallback to original if query fails
@@ -255,7 +306,7 @@ public class IssueService {
         IssueDto dto = convertToDto(issue);
         
         // Publish WebSocket event
-        if (messagingTemplate != null) {
+        if (eventPublisher != null) {
             IssueUpdateEvent event = new IssueUpdateEvent(
                 "UPDATED",
                 dto.getId(),
@@ -264,24 +315,31 @@ public class IssueService {
                 dto.getPriority(),
                 dto.getProjectId()
             );
-            messagingTemplate.convertAndSend("/topic/issues", event);
+            eventPublisher.publish("/topic/issues", dto.getProjectId(), event);
         }
         
+        jfrEvent.record(dto.getId(), dto.getProjectId());
         return dto;
     }
     
     @Transactional
     public void deleteIssue(Long id) {
+        IssueOperationEvent jfrEvent = new IssueOperationEvent("DELETE");
+        jfrEvent.begin();
+        
         Issue issue = issueRepository.findById(id)
-            .orElseThrow(() -> new RuntimeException("Issue not found"));
+            .filter(i -> !i.getProject().isDeleted())
+            .orElseThrow(() -> new EntityNotFoundException("Issue not found"));
         
         Long projectId = issue.getProject().getId();
         String title = issue.getTitle();
         
         issueRepository.delete(issue);
         
+        projectStatsService.issueDeleted(projectId, issue.getStatus(), issue.getPriority());
+        
         // Publish WebSocket event
-        if (messagingTemplate != null) {
+        if (eventPublisher != null) {
             IssueUpdateEvent event = new IssueUpdateEvent(
                 "DELETED",
                 id,
@@ -290,8 +348,10 @@ public class IssueService {
                 issue.getPriority(),
                 projectId
             );
-            messagingTemplate.convertAndSend("/topic/issues", event);
+            eventPublisher.publish("/topic/issues", projectId, event);
         }
+        
+        jfrEvent.record(id, projectId);
     }
     
     private IssueDto convertToDto(Issue issue) {
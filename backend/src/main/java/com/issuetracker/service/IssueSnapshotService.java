@@ -0,0 +1,62 @@
+package com.issuetracker.service;
+
+import com.issuetracker.config.ReadWriteRoutingDataSource;
+import com.issuetracker.dto.IssueDto;
+import com.issuetracker.dto.IssueSnapshot;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Builds {@link IssueSnapshot}s. The sequence is read before the data: events are published only
+ * after their transaction commits, so every change up to that sequence is visible to the reads
+ * below. Changes committed while the snapshot is being read may show up both in the snapshot and
+ * as a later event, which clients handle by applying events idempotently.
+ *
+ * The reads go to the primary: a lagging replica could miss changes up to that sequence, and the
+ * client would never see them. The connection is only fetched at the first query, so pinning inside
+ * the transaction is early enough.
+ */
+@Service
+public class IssueSnapshotService {
+    
+    @Autowired
+    private IssueService issueService;
+    
+    @Autowired
+    private CommentService commentService;
+    
+    @Autowired
+    private ActivityLogService activityLogService;
+    
+    @Autowired
+    private EventPublisher eventPublisher;
+    
+    @Value("${events.snapshot.page-size:50}")
+    private int pageSize;
+    
+    @Transactional(readOnly = true)
+    public IssueSnapshot getSnapshot(Long issueId) {
+        return ReadWriteRoutingDataSource.onPrimary(() -> readSnapshot(issueId));
+    }
+    
+    private IssueSnapshot readSnapshot(Long issueId) {
+        long sequence = eventPublisher.getLastDeliveredSequence();
+        
+        IssueDto issue;
+        try {
+            issue = issueService.getIssueById(issueId);
+        } catch (RuntimeException e) {
+            return new IssueSnapshot(issueId, null, null, null, sequence);
+        }
+        
+        return new IssueSnapshot(
+            issueId,
+            issue,
+            commentService.getLatestCommentsByIssueId(issueId, pageSize),
+            activityLogService.getLatestActivityLogsByIssueId(issueId, pageSize),
+            sequence
+        );
+    }
+}
@@ -0,0 +1,11 @@
+package com.issuetracker.service;
+
+/**
+ * Thrown when the password hashing executor is saturated; mapped to 429 by {@code AuthController}.
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+    
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
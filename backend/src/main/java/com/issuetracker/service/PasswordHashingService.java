@@ -0,0 +1,132 @@
+package com.issuetracker.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs BCrypt on a small dedicated pool so a login storm cannot occupy every request thread.
+ *
+ * The pool has one thread per core and a bounded queue; when both are full, or a queued task
+ * waits longer than the timeout, callers get a {@link PasswordHashingBusyException} right away.
+ * At most pool size + queue capacity request threads are ever waiting here, which leaves the
+ * rest of the Tomcat pool free for other traffic (including health checks).
+ *
+ * Metrics: {@code auth.password.hash} timer (operation=encode|verify), {@code auth.password.queue}
+ * and {@code auth.password.active} gauges, {@code auth.password.rejected} counter.
+ */
+@Service
+public class PasswordHashingService {
+    
+    private static final Pattern BCRYPT_COST = Pattern.compile("\\$2[aby]?\\$(\\d\\d)\\$");
+    
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${auth.bcrypt.strength:10}")
+    private int bcryptStrength;
+    
+    @Value("${auth.password-hashing.pool-size:0}")
+    private int poolSize;
+    
+    @Value("${auth.password-hashing.queue-capacity:64}")
+    private int queueCapacity;
+    
+    @Value("${auth.password-hashing.timeout-ms:5000}")
+    private long timeoutMs;
+    
+    private ThreadPoolExecutor executor;
+    private Timer encodeTimer;
+    private Timer verifyTimer;
+    private Counter rejectedCounter;
+    
+    @PostConstruct
+    void init() {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            r -> {
+                Thread thread = new Thread(r, "password-hash-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+        
+        encodeTimer = Timer.builder("auth.password.hash").tag("operation", "encode").register(meterRegistry);
+        verifyTimer = Timer.builder("auth.password.hash").tag("operation", "verify").register(meterRegistry);
+        rejectedCounter = Counter.builder("auth.password.rejected").register(meterRegistry);
+        Gauge.builder("auth.password.queue", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("auth.password.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+    
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+    
+    public String encode(String rawPassword) {
+        return run(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+    
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(verifyTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+    
+    /**
+     * True when the hash was not made with exactly the configured BCrypt cost, so lowering
+     * {@code auth.bcrypt.strength} takes effect on the next login just like raising it.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        Matcher matcher = encodedPassword != null ? BCRYPT_COST.matcher(encodedPassword) : null;
+        if (matcher == null || !matcher.lookingAt()) {
+            return true;
+        }
+        return Integer.parseInt(matcher.group(1)) != bcryptStrength;
+    }
+    
+    private <T> T run(Timer timer, Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timer.recordCallable(task));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new PasswordHashingBusyException("Too many authentication requests, try again shortly");
+        }
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new PasswordHashingBusyException("Too many authentication requests, try again shortly");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException("Interrupted while waiting for password hashing");
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Password hashing failed", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.issuetracker.service;
+
+import com.issuetracker.dto.ProjectDeletionDto;
+import com.issuetracker.model.Project;
+import com.issuetracker.model.ProjectDeletionJob;
+import com.issuetracker.model.ProjectDeletionStatus;
+import com.issuetracker.repository.ActivityLogRepository;
+import com.issuetracker.repository.CommentRepository;
+import com.issuetracker.repository.IssueRepository;
+import com.issuetracker.repository.ProjectDeletionJobRepository;
+import com.issuetracker.repository.ProjectRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Deletes projects in the background.
+ *
+ * {@link #start} tombstones the project (it disappears from listings at once) and records a
+ * {@link ProjectDeletionJob}. A scheduled worker then removes the project's issues in chunks of
+ * {@code projects.deletion.chunk-size}: each chunk deletes the comments and activity logs of those
+ * issues, then the issues, in one short transaction. Once no issues are left the project row is
+ * deleted. Progress is committed with every chunk, so a restart simply continues from what is left.
+ * Each run is limited to {@code projects.deletion.run-budget-ms} so it doesn't hold the shared
+ * scheduler thread; with several nodes, the job lease keeps them from working on the same job.
+ */
+@Service
+public class ProjectDeletionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectDeletionService.class);
+
+    @Autowired
+    private ProjectDeletionJobRepository jobRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ActivityLogRepository activityLogRepository;
+
+    @Autowired
+    private ProjectStatsService projectStatsService;
+
+    @Autowired
+    private EntityCacheInvalidator entityCacheInvalidator;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${projects.deletion.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${projects.deletion.run-budget-ms:2000}")
+    private long runBudgetMs;
+
+    @Value("${projects.deletion.lease-ms:60000}")
+    private long leaseMs;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /** Tombstones the project and queues its deletion, in the caller's transaction. */
+    @Transactional
+    public ProjectDeletionDto start(Project project) {
+        project.setDeletedAt(LocalDateTime.now());
+        projectRepository.save(project);
+
+        ProjectDeletionJob job = new ProjectDeletionJob();
+        job.setProjectId(project.getId());
+        job.setProjectName(project.getName());
+        job.setOwnerId(project.getOwner().getId());
+        job.setStatus(ProjectDeletionStatus.IN_PROGRESS);
+        job.setIssuesTotal(issueRepository.countByProjectId(project.getId()));
+        job = jobRepository.save(job);
+        entityCacheInvalidator.projectChanged(project.getId());
+
+        logger.info("Project {} tombstoned, deleting {} issue(s) in the background", project.getId(), job.getIssuesTotal());
+        return convertToDto(job);
+    }
+
+    /**
+     * Progress of the project's latest deletion, for its owner only.
+     *
+     * @throws AccessDeniedException when the user does not own the project
+     */
+    @Transactional(readOnly = true)
+    public ProjectDeletionDto getProgress(Long projectId, Long userId) {
+        ProjectDeletionJob job = jobRepository.findTopByProjectIdOrderByIdDesc(projectId)
+            .orElseThrow(() -> new RuntimeException("No deletion found for project"));
+        if (!Objects.equals(job.getOwnerId(), userId)) {
+            throw new AccessDeniedException("Only project owner can view the deletion");
+        }
+        return convertToDto(job);
+    }
+
+    @Scheduled(fixedDelayString = "${projects.deletion.poll-interval-ms:1000}")
+    public void processJobs() {
+        long deadline = System.currentTimeMillis() + runBudgetMs;
+        for (ProjectDeletionJob job : jobRepository.findByStatusOrderByIdAsc(ProjectDeletionStatus.IN_PROGRESS)) {
+            if (System.currentTimeMillis() >= deadline) {
+                return;
+            }
+            if (claim(job.getId())) {
+                run(job.getId(), deadline);
+            }
+        }
+    }
+
+    private boolean claim(Long jobId) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = transactionTemplate.execute(status ->
+            jobRepository.claim(jobId, nodeId, now.plus(Duration.ofMillis(leaseMs)), now));
+        return claimed != null && claimed == 1;
+    }
+
+    private void run(Long jobId, long deadline) {
+        try {
+            boolean more = true;
+            while (more && System.currentTimeMillis() < deadline) {
+                more = Boolean.TRUE.equals(transactionTemplate.execute(status -> deleteChunk(jobId)));
+            }
+        } catch (RuntimeException e) {
+            // Nothing of the failed chunk was committed; release the job so the next run retries it
+            logger.warn("Deletion job {} failed, will retry", jobId, e);
+            transactionTemplate.executeWithoutResult(status -> jobRepository.findById(jobId).ifPresent(job -> {
+                job.setLastError(e.getMessage());
+                job.setLeaseOwner(null);
+                job.setLeaseUntil(null);
+            }));
+        }
+    }
+
+    /** Deletes one chunk; returns whether there is more to do. */
+    private boolean deleteChunk(Long jobId) {
+        ProjectDeletionJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null || job.getStatus() != ProjectDeletionStatus.IN_PROGRESS || !nodeId.equals(job.getLeaseOwner())) {
+            return false;
+        }
+
+        List<Long> issueIds = issueRepository.findIdsByProjectId(job.getProjectId(), PageRequest.of(0, chunkSize));
+        if (issueIds.isEmpty()) {
+            projectRepository.findById(job.getProjectId()).ifPresent(projectRepository::delete);
+            projectStatsService.projectDeleted(job.getProjectId());
+            entityCacheInvalidator.projectChanged(job.getProjectId());
+            job.setStatus(ProjectDeletionStatus.COMPLETED);
+            job.setCompletedAt(LocalDateTime.now());
+            job.setLeaseOwner(null);
+            job.setLeaseUntil(null);
+            job.setLastError(null);
+            logger.info("Project {} deleted ({} issues, {} comments, {} activity logs)", job.getProjectId(),
+                job.getIssuesDeleted(), job.getCommentsDeleted(), job.getActivityLogsDeleted());
+            return false;
+        }
+
+        job.setCommentsDeleted(job.getCommentsDeleted() + commentRepository.deleteByIssueIdIn(issueIds));
+        job.setActivityLogsDeleted(job.getActivityLogsDeleted() + activityLogRepository.deleteByIssueIdIn(issueIds));
+        job.setIssuesDeleted(job.getIssuesDeleted() + issueRepository.deleteByIdIn(issueIds));
+        job.setLeaseUntil(LocalDateTime.now().plus(Duration.ofMillis(leaseMs)));
+        return true;
+    }
+
+    private ProjectDeletionDto convertToDto(ProjectDeletionJob job) {
+        ProjectDeletionDto dto = new ProjectDeletionDto();
+        dto.setProjectId(job.getProjectId());
+        dto.setProjectName(job.getProjectName());
+        dto.setStatus(job.getStatus());
+        dto.setIssuesTotal(job.getIssuesTotal());
+        dto.setIssuesDeleted(job.getIssuesDeleted());
+        dto.setCommentsDeleted(job.getCommentsDeleted());
+        dto.setActivityLogsDeleted(job.getActivityLogsDeleted());
+        dto.setLastError(job.getLastError());
+        dto.setCreatedAt(job.getCreatedAt());
+        dto.setCompletedAt(job.getCompletedAt());
+        return dto;
+    }
+}
@@ -1,28 +1,48 @@
 package com.issuetracker.service;
 
 import com.issuetracker.dto.CreateProjectRequest;
+import com.issuetracker.dto.PageResponse;
+import com.issuetracker.dto.ProjectDeletionDto;
 import com.issuetracker.dto.ProjectDto;
+import com.issuetracker.dto.ProjectStatsDto;
 import com.issuetracker.model.Project;
 import com.issuetracker.model.User;
+import com.issuetracker.repository.ProjectCursor;
 import com.issuetracker.repository.ProjectRepository;
 import com.issuetracker.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
+@Timed("service.method")
 public class ProjectService {
     
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 200;
+    
     @Autowired
     private ProjectRepository projectRepository;
     
     @Autowired
     private UserRepository userRepository;
     
+    @Autowired
+    private ProjectStatsService projectStatsService;
+    
+    @Autowired
+    private ProjectDeletionService projectDeletionService;
+    
+    @Autowired
+    private EntityCacheInvalidator entityCacheInvalidator;
+    
     @Transactional
     public ProjectDto createProject(CreateProjectRequest request, String ownerEmail) {
         User owner = userRepository.findByEmail(ownerEmail)
@@ -33,85 +53,111 @@ public class ProjectService {
         project.setOwner(owner);
         
         project = projectRepository.save(project);
+        projectStatsService.projectCreated(project.getId());
         
-        return convertToDto(project);
+        // A new project has no issues yet
+        ProjectDto dto = convertToDto(project);
+        dto.setStats(new ProjectStatsDto());
+        return dto;
     }
     
+    @Transactional(readOnly = true)
     public List<ProjectDto> getAllProjects(String sortBy, String sortDir, String searchText) {
-        Sort.Direction direction = sortDir != null && sortDir.equalsIgnoreCase("desc") 
-            ? Sort.Direction.DESC 
-            : Sort.Direction.ASC;
-        
-        String primarySortField = sortBy != null ? sortBy : "name";
-        
-        Sort sort;
-        if (primarySortField.equals("name")) {
-            sort = Sort.by(direction, "name")
-                      .and(Sort.by(Sort.Direction.ASC, "id"));
-        } else if (primarySortField.equals("createdAt")) {
-            sort = Sort.by(direction, "createdAt")
-                      .and(Sort.by(Sort.Direction.ASC, "id"));
-        } else if (primarySortField.equals("updatedAt")) {
-            sort = Sort.by(direction, "updatedAt")
-                      .and(Sort.by(Sort.Direction.DESC, "createdAt"))
-                      .and(Sort.by(Sort.Direction.ASC, "id"));
-        } else {
-            // Default to name if invalid sort field
-            sort = Sort.by(direction, "name")
-                      .and(Sort.by(Sort.Direction.ASC, "id"));
+        return projectRepository.findProjectDtos(
+            normalizeSearch(searchText), sortField(sortBy), isDescending(sortDir), null, 0, 0);
+    }
+    
+    /**
+     * One page of projects, searched and sorted in the database. Pass {@code cursor} (the
+     * {@code nextCursor} of the previous page) for keyset pagination, which stays fast at any
+     * depth and skips the count query; otherwise {@code page} is used as an offset.
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<ProjectDto> getProjects(String sortBy, String sortDir, String searchText,
+                                                Integer page, Integer size, String cursor) {
+        String search = normalizeSearch(searchText);
+        String sortField = sortField(sortBy);
+        boolean descending = isDescending(sortDir);
+        int pageSize = size != null ? Math.max(1, Math.min(size, MAX_PAGE_SIZE)) : DEFAULT_PAGE_SIZE;
+        
+        if (cursor != null && !cursor.isEmpty()) {
+            ProjectCursor after = decodeCursor(cursor, sortField);
+            // One extra row tells us whether there is a next page without counting
+            List<ProjectDto> rows = projectRepository.findProjectDtos(search, sortField, descending, after, 0, pageSize + 1);
+            boolean last = rows.size() <= pageSize;
+            List<ProjectDto> content = last ? rows : rows.subList(0, pageSize);
+            PageResponse<ProjectDto> response = new PageResponse<>(content, -1, pageSize, -1, -1, last);
+            response.setNextCursor(last ? null : encodeCursor(content.get(content.size() - 1), sortField));
+            return response;
         }
         
-        // Get filtered projects if searchText is provided
-        List<Project> projects;
-        if (searchText != null && !searchText.trim().isEmpty()) {
-            projects = projectRepository.findAllWithSearch(searchText.trim());
-        } else {
-            projects = projectRepository.findAll(sort);
+        int pageNumber = page != null ? Math.max(0, page) : 0;
+        List<ProjectDto> content = projectRepository.findProjectDtos(
+            search, sortField, descending, null, pageNumber * pageSize, pageSize);
+        long total = projectRepository.countProjects(search);
+        int totalPages = (int) ((total + pageSize - 1) / pageSize);
+        boolean last = pageNumber >= totalPages - 1;
+        PageResponse<ProjectDto> response = new PageResponse<>(content, pageNumber, pageSize, total, totalPages, last);
+        if (!last && !content.isEmpty()) {
+            response.setNextCursor(encodeCursor(content.get(content.size() - 1), sortField));
         }
-        
-        // Apply sorting to filtered results
-        // Note: We need to sort in memory since findAllWithSearch doesn't support Sort parameter
-        // For simplicity, we'll sort the list manually
-        if (searchText != null && !searchText.trim().isEmpty()) {
-            // Sort the filtered list
-            java.util.Comparator<Project> comparator = null;
-            if (primarySortField.equals("name")) {
-                comparator = direction == Sort.Direction.ASC 
-                    ? java.util.Comparator.comparing(Project::getName)
-                    : java.util.Comparator.comparing(Project::getName).reversed();
-            } else if (primarySortField.equals("createdAt")) {
-                comparator = direction == Sort.Direction.ASC 
-                    ? java.util.Comparator.comparing(Project::getCreatedAt)
-                    : java.util.Comparator.comparing(Project::getCreatedAt).reversed();
-            } else if (primarySortField.equals("updatedAt")) {
-                comparator = direction == Sort.Direction.ASC 
-                    ? java.util.Comparator.comparing(Project::getUpdatedAt)
-                    : java.util.Comparator.comparing(Project::getUpdatedAt).reversed();
+        return response;
+    }
+    
+    private String normalizeSearch(String searchText) {
+        return searchText != null && !searchText.trim().isEmpty() ? searchText.trim() : null;
+    }
+    
+    private String sortField(String sortBy) {
+        // Default to name if missing or invalid sort field
+        return sortBy != null && (sortBy.equals("createdAt") || sortBy.equals("updatedAt")) ? sortBy : "name";
+    }
+    
+    private boolean isDescending(String sortDir) {
+        return sortDir != null && sortDir.equalsIgnoreCase("desc");
+    }
+    
+    // Cursor format: base64url("<sort field>|<id>|<sort value>"); the field guards against reuse with another sort.
+    // The updatedAt sort appends "|<createdAt>", its tie-breaker
+    private String encodeCursor(ProjectDto last, String sortField) {
+        Object value = sortField.equals("name") ? last.getName()
+            : sortField.equals("createdAt") ? last.getCreatedAt() : last.getUpdatedAt() + "|" + last.getCreatedAt();
+        String raw = sortField + "|" + last.getId() + "|" + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private ProjectCursor decodeCursor(String cursor, String sortField) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            if (parts.length != 3 || !parts[0].equals(sortField)) {
+                throw new RuntimeException("Invalid cursor");
             }
-            
-            if (comparator != null) {
-                projects = projects.stream()
-                    .sorted(comparator.thenComparing(Project::getId))
-                    .collect(Collectors.toList());
+            Long id = Long.parseLong(parts[1]);
+            if (sortField.equals("updatedAt")) {
+                String[] values = parts[2].split("\\|");
+                if (values.length != 2) {
+                    throw new RuntimeException("Invalid cursor");
+                }
+                return new ProjectCursor(LocalDateTime.parse(values[0]), LocalDateTime.parse(values[1]), id);
             }
+            Object value = sortField.equals("name") ? parts[2] : LocalDateTime.parse(parts[2]);
+            return new ProjectCursor(value, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new RuntimeException("Invalid cursor");
         }
-        
-        return projects.stream()
-            .map(this::convertToDto)
-            .collect(Collectors.toList());
     }
     
+    /** The project with its issue counts, from a single query like the list. */
+    @Transactional(readOnly = true)
     public ProjectDto getProjectById(Long id) {
-        Project project = projectRepository.findById(id)
+        return projectRepository.findProjectDtoById(id)
             .orElseThrow(() -> new RuntimeException("Project not found"));
-        
-        return convertToDto(project);
     }
     
     @Transactional
     public ProjectDto updateProject(Long id, CreateProjectRequest request, String ownerEmail) {
-        Project project = projectRepository.findById(id)
-            .orElseThrow(() -> new RuntimeException("Project not found"));
+        Project project = findActiveProject(id);
         
         User owner = userRepository.findByEmail(ownerEmail)
             .orElseThrow(() -> new RuntimeException("User not found"));
@@ -123,14 +169,20 @@ public class ProjectService {
         
         project.setName(request.getName());
         project = projectRepository.save(project);
+        entityCacheInvalidator.projectChanged(project.getId());
         
-        return convertToDto(project);
+        ProjectDto dto = convertToDto(project);
+        dto.setStats(projectStatsService.getStats(project.getId()));
+        return dto;
     }
     
+    /**
+     * Tombstones the project and hands it to {@link ProjectDeletionService}, which removes its
+     * issues, comments and activity logs in the background.
+     */
     @Transactional
-    public void deleteProject(Long id, String ownerEmail) {
-        Project project = projectRepository.findById(id)
-            .orElseThrow(() -> new RuntimeException("Project not found"));
+    public ProjectDeletionDto deleteProject(Long id, String ownerEmail) {
+        Project project = findActiveProject(id);
         
         User owner = userRepository.findByEmail(ownerEmail)
             .orElseThrow(() -> new RuntimeException("User not found"));
@@ -140,7 +192,21 @@ public class ProjectService {
             throw new RuntimeException("Only project owner can delete the project");
         }
         
-        projectRepository.delete(project);
+        return projectDeletionService.start(project);
+    }
+    
+    /** Same owner check as {@link #deleteProject}; the project row may already be gone. */
+    public ProjectDeletionDto getDeletionProgress(Long id, String ownerEmail) {
+        User owner = userRepository.findByEmail(ownerEmail)
+            .orElseThrow(() -> new RuntimeException("User not found"));
+        return projectDeletionService.getProgress(id, owner.getId());
+    }
+    
+    // Tombstoned projects are treated as gone
+    private Project findActiveProject(Long id) {
+        return projectRepository.findById(id)
+            .filter(project -> !project.isDeleted())
+            .orElseThrow(() -> new RuntimeException("Project not found"));
     }
     
     private ProjectDto convertToDto(Project project) {
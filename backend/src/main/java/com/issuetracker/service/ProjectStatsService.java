@@ -0,0 +1,293 @@
+package com.issuetracker.service;
+
+import com.issuetracker.dto.ProjectStatsDto;
+import com.issuetracker.model.IssuePriority;
+import com.issuetracker.model.IssueStatus;
+import com.issuetracker.model.JobLease;
+import com.issuetracker.model.ProjectStats;
+import com.issuetracker.repository.IssueRepository;
+import com.issuetracker.repository.JobLeaseRepository;
+import com.issuetracker.repository.ProjectRepository;
+import com.issuetracker.repository.ProjectStatsRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Maintains {@code project_stats}, the per-project issue counts returned with every ProjectDto.
+ *
+ * IssueService reports each create, update and delete here, inside its own transaction, and the
+ * change is applied as a relative UPDATE of the project's row. A scheduled job recounts from the
+ * issues table and corrects any drift (rows written before this existed, bulk SQL, bugs).
+ *
+ * Reconciliation runs on one node at a time (the {@value #RECONCILE_JOB} {@link JobLease}) and
+ * walks the projects in id order, {@code projects.stats.reconcile-batch-size} at a time, one short
+ * transaction per batch. Each batch locks its projects' stats rows before it counts their issues.
+ * An issue change that already updated its row has to commit first, so the count includes it; one
+ * that has not yet is held until the batch commits and then adds its delta to the corrected row.
+ * Either way it is counted exactly once, and only writes to the batch's projects ever wait.
+ */
+@Service
+public class ProjectStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectStatsService.class);
+
+    // Positions in a counts array, matching the parameters of ProjectStatsRepository.adjust
+    private static final int OPEN_COUNT = 0;
+    private static final int IN_PROGRESS_COUNT = 1;
+    private static final int CLOSED_COUNT = 2;
+    private static final int LOW_COUNT = 3;
+    private static final int MEDIUM_COUNT = 4;
+    private static final int HIGH_COUNT = 5;
+    private static final int CRITICAL_COUNT = 6;
+    private static final int SIZE = 7;
+
+    static final String RECONCILE_JOB = "project-stats-reconcile";
+
+    @Autowired
+    private ProjectStatsRepository projectStatsRepository;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${projects.stats.reconcile-batch-size:500}")
+    private int batchSize;
+
+    // Held for one interval, so the other nodes' timers find it taken until the holder runs again
+    @Value("${projects.stats.reconcile-interval-ms:900000}")
+    private long leaseMs;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private Counter corrections;
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        corrections = Counter.builder("projects.stats.corrections")
+            .description("Project stats rows fixed by reconciliation")
+            .register(meterRegistry);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /** Counts for a single project (all zero if it has no row yet). */
+    @Transactional(readOnly = true)
+    public ProjectStatsDto getStats(Long projectId) {
+        return projectStatsRepository.findById(projectId)
+            .map(stats -> new ProjectStatsDto(stats.getOpenCount(), stats.getInProgressCount(), stats.getClosedCount(),
+                stats.getLowCount(), stats.getMediumCount(), stats.getHighCount(), stats.getCriticalCount()))
+            .orElseGet(ProjectStatsDto::new);
+    }
+
+    /** Creates the (empty) stats row for a new project, in the caller's transaction. */
+    @Transactional
+    public void projectCreated(Long projectId) {
+        projectStatsRepository.save(new ProjectStats(projectId));
+    }
+
+    @Transactional
+    public void projectDeleted(Long projectId) {
+        projectStatsRepository.deleteById(projectId);
+    }
+
+    @Transactional
+    public void issueCreated(Long projectId, IssueStatus status, IssuePriority priority) {
+        long[] delta = new long[SIZE];
+        count(delta, status, priority, 1);
+        apply(projectId, delta);
+    }
+
+    @Transactional
+    public void issueDeleted(Long projectId, IssueStatus status, IssuePriority priority) {
+        long[] delta = new long[SIZE];
+        count(delta, status, priority, -1);
+        apply(projectId, delta);
+    }
+
+    @Transactional
+    public void issueChanged(Long projectId, IssueStatus oldStatus, IssuePriority oldPriority,
+                             IssueStatus newStatus, IssuePriority newPriority) {
+        if (oldStatus == newStatus && oldPriority == newPriority) {
+            return;
+        }
+        long[] delta = new long[SIZE];
+        count(delta, oldStatus, oldPriority, -1);
+        count(delta, newStatus, newPriority, 1);
+        apply(projectId, delta);
+    }
+
+    /**
+     * Recounts every project from the issues table and fixes rows that disagree, creating any
+     * that are missing and removing those whose project is gone. Does nothing while another node
+     * holds the lease.
+     */
+    @Scheduled(fixedDelayString = "${projects.stats.reconcile-interval-ms:900000}",
+               initialDelayString = "${projects.stats.reconcile-initial-delay-ms:10000}")
+    public void reconcile() {
+        int fixed = 0;
+        long afterId = 0;
+        while (true) {
+            // Renewed with every batch, so a long run keeps it
+            if (!claimLease()) {
+                break;
+            }
+            long from = afterId;
+            Batch batch = transactionTemplate.execute(status -> reconcileBatch(from));
+            fixed += batch.fixed();
+            if (batch.last()) {
+                break;
+            }
+            afterId = batch.toId();
+        }
+
+        if (fixed > 0) {
+            corrections.increment(fixed);
+            logger.info("Reconciled project stats: {} row(s) corrected", fixed);
+        }
+    }
+
+    /** Reconciles the projects after {@code afterId}, up to one batch of them. */
+    private Batch reconcileBatch(long afterId) {
+        List<Long> projectIds = projectRepository.findIdsAfter(afterId, PageRequest.of(0, batchSize));
+        boolean last = projectIds.size() < batchSize;
+        // The last batch reaches to the end, so it also picks up stats rows past the highest project
+        long toId = last ? Long.MAX_VALUE : projectIds.get(projectIds.size() - 1);
+
+        Map<Long, ProjectStats> existing = new HashMap<>();
+        // Lock before counting; counting first would miss changes that commit in between
+        for (ProjectStats stats : projectStatsRepository.findRangeForUpdate(afterId, toId)) {
+            existing.put(stats.getProjectId(), stats);
+        }
+
+        Map<Long, long[]> actual = new HashMap<>();
+        for (Object[] row : issueRepository.countByProjectStatusAndPriority(afterId, toId)) {
+            long[] counts = actual.computeIfAbsent((Long) row[0], id -> new long[SIZE]);
+            count(counts, (IssueStatus) row[1], (IssuePriority) row[2], ((Number) row[3]).longValue());
+        }
+
+        int fixed = 0;
+        LocalDateTime now = LocalDateTime.now();
+        for (Long projectId : projectIds) {
+            long[] counts = actual.getOrDefault(projectId, new long[SIZE]);
+            ProjectStats stats = existing.remove(projectId);
+            if (stats == null) {
+                ProjectStats created = new ProjectStats(projectId);
+                setCounts(created, counts);
+                projectStatsRepository.save(created);
+                fixed++;
+                continue;
+            }
+            long[] stored = getCounts(stats);
+            if (!Arrays.equals(stored, counts)) {
+                long[] delta = new long[SIZE];
+                for (int i = 0; i < SIZE; i++) {
+                    delta[i] = counts[i] - stored[i];
+                }
+                adjust(projectId, delta, now);
+                fixed++;
+            }
+        }
+        // Rows left in the range belong to projects that are gone
+        if (!existing.isEmpty()) {
+            projectStatsRepository.deleteAllById(existing.keySet());
+            fixed += existing.size();
+        }
+        return new Batch(toId, fixed, last);
+    }
+
+    private boolean claimLease() {
+        if (!jobLeaseRepository.existsById(RECONCILE_JOB)) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> jobLeaseRepository.saveAndFlush(new JobLease(RECONCILE_JOB)));
+            } catch (DataIntegrityViolationException e) {
+                // Another node created it first
+            }
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = transactionTemplate.execute(status ->
+            jobLeaseRepository.claim(RECONCILE_JOB, nodeId, now.plus(Duration.ofMillis(leaseMs)), now));
+        return claimed != null && claimed == 1;
+    }
+
+    private record Batch(long toId, int fixed, boolean last) {}
+
+    private void apply(Long projectId, long[] delta) {
+        if (adjust(projectId, delta, LocalDateTime.now()) == 0) {
+            // Project predates project_stats; the next reconciliation creates its row
+            logger.debug("No stats row for project {}, left to reconciliation", projectId);
+        }
+    }
+
+    private int adjust(Long projectId, long[] delta, LocalDateTime now) {
+        return projectStatsRepository.adjust(projectId,
+            delta[OPEN_COUNT], delta[IN_PROGRESS_COUNT], delta[CLOSED_COUNT],
+            delta[LOW_COUNT], delta[MEDIUM_COUNT], delta[HIGH_COUNT], delta[CRITICAL_COUNT], now);
+    }
+
+    private static void count(long[] counts, IssueStatus status, IssuePriority priority, long n) {
+        if (status != null) {
+            switch (status) {
+                case OPEN -> counts[OPEN_COUNT] += n;
+                case IN_PROGRESS -> counts[IN_PROGRESS_COUNT] += n;
+                case CLOSED -> counts[CLOSED_COUNT] += n;
+            }
+        }
+        if (priority != null) {
+            switch (priority) {
+                case LOW -> counts[LOW_COUNT] += n;
+                case MEDIUM -> counts[MEDIUM_COUNT] += n;
+                case HIGH -> counts[HIGH_COUNT] += n;
+                case CRITICAL -> counts[CRITICAL_COUNT] += n;
+            }
+        }
+    }
+
+    private static long[] getCounts(ProjectStats stats) {
+        return new long[] {
+            stats.getOpenCount(), stats.getInProgressCount(), stats.getClosedCount(),
+            stats.getLowCount(), stats.getMediumCount(), stats.getHighCount(), stats.getCriticalCount()
+        };
+    }
+
+    private static void setCounts(ProjectStats stats, long[] counts) {
+        stats.setOpenCount(counts[OPEN_COUNT]);
+        stats.setInProgressCount(counts[IN_PROGRESS_COUNT]);
+        stats.setClosedCount(counts[CLOSED_COUNT]);
+        stats.setLowCount(counts[LOW_COUNT]);
+        stats.setMediumCount(counts[MEDIUM_COUNT]);
+        stats.setHighCount(counts[HIGH_COUNT]);
+        stats.setCriticalCount(counts[CRITICAL_COUNT]);
+    }
+}
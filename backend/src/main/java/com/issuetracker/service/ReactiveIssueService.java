@@ -0,0 +1,135 @@
+package com.issuetracker.service;
+
+import com.issuetracker.dto.IssueDto;
+import com.issuetracker.model.IssuePriority;
+import com.issuetracker.model.IssueStatus;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Non-blocking reads of issues over R2DBC, for the reactive read API. Writes stay on the JPA path
+ * ({@link IssueService}).
+ *
+ * Filters, defaults and sort order are those of {@link IssueService#getIssues} - the WHERE clause
+ * mirrors IssueRepository.findAllWithFilters and the ORDER BY comes from
+ * {@link IssueService#buildSort} - so both APIs return the same page for the same parameters.
+ * Only set filters become conditions, letting the database pick an index per filter shape.
+ * Rows are mapped as they arrive from the driver; nothing is collected.
+ */
+@Service
+public class ReactiveIssueService {
+
+    private static final String SELECT =
+        "SELECT i.id, i.title, i.description, i.status, i.priority, i.project_id, p.name AS project_name, " +
+        "i.creator_id, c.name AS creator_name, i.assignee_id, a.name AS assignee_name, i.created_at, i.updated_at " +
+        "FROM issues i " +
+        "JOIN projects p ON p.id = i.project_id " +
+        "LEFT JOIN users c ON c.id = i.creator_id " +
+        "LEFT JOIN users a ON a.id = i.assignee_id " +
+        "WHERE p.deleted_at IS NULL";
+
+    // Issue properties IssueService.buildSort can put in a Sort, and their columns
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+        "id", "i.id",
+        "title", "i.title",
+        "status", "i.status",
+        "priority", "i.priority",
+        "createdAt", "i.created_at",
+        "updatedAt", "i.updated_at"
+    );
+
+    @Autowired
+    private DatabaseClient reactiveDatabaseClient;
+
+    public Flux<IssueDto> getIssues(
+        Integer page,
+        Integer size,
+        String sortBy,
+        String sortDir,
+        IssueStatus status,
+        IssuePriority priority,
+        Long assigneeId,
+        Long projectId,
+        String searchText
+    ) {
+        Pageable pageable = PageRequest.of(page != null ? page : 0, size != null ? size : 20,
+            IssueService.buildSort(sortBy, sortDir));
+
+        StringBuilder sql = new StringBuilder(SELECT);
+        Map<String, Object> params = new LinkedHashMap<>();
+        if (status != null) {
+            sql.append(" AND i.status = :status");
+            params.put("status", status.name());
+        }
+        if (priority != null) {
+            sql.append(" AND i.priority = :priority");
+            params.put("priority", priority.name());
+        }
+        if (assigneeId != null) {
+            sql.append(" AND i.assignee_id = :assigneeId");
+            params.put("assigneeId", assigneeId);
+        }
+        if (projectId != null) {
+            sql.append(" AND i.project_id = :projectId");
+            params.put("projectId", projectId);
+        }
+        if (searchText != null) {
+            sql.append(" AND LOWER(i.title) LIKE LOWER(CONCAT('%', :searchText, '%'))");
+            params.put("searchText", searchText);
+        }
+
+        String separator = " ORDER BY ";
+        for (Sort.Order order : pageable.getSort()) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column == null) {
+                return Flux.error(new RuntimeException("Unsupported sort field: " + order.getProperty()));
+            }
+            sql.append(separator).append(column).append(order.isAscending() ? " ASC" : " DESC");
+            separator = ", ";
+        }
+        sql.append(" LIMIT ").append(pageable.getPageSize()).append(" OFFSET ").append(pageable.getOffset());
+
+        DatabaseClient.GenericExecuteSpec spec = reactiveDatabaseClient.sql(sql.toString());
+        for (Map.Entry<String, Object> param : params.entrySet()) {
+            spec = spec.bind(param.getKey(), param.getValue());
+        }
+        return spec.map(ReactiveIssueService::toDto).all();
+    }
+
+    public Mono<IssueDto> getIssueById(Long id) {
+        return reactiveDatabaseClient.sql(SELECT + " AND i.id = :id")
+            .bind("id", id)
+            .map(ReactiveIssueService::toDto)
+            .one();
+    }
+
+    // Same fields as IssueService.convertToDto; names come from the joins, so nothing is loaded per row
+    private static IssueDto toDto(Readable row) {
+        IssueDto dto = new IssueDto();
+        dto.setId(row.get("id", Long.class));
+        dto.setTitle(row.get("title", String.class));
+        dto.setDescription(row.get("description", String.class));
+        dto.setStatus(IssueStatus.valueOf(row.get("status", String.class)));
+        dto.setPriority(IssuePriority.valueOf(row.get("priority", String.class)));
+        dto.setProjectId(row.get("project_id", Long.class));
+        dto.setProjectName(row.get("project_name", String.class));
+        dto.setCreatorId(row.get("creator_id", Long.class));
+        dto.setCreatorName(row.get("creator_name", String.class));
+        dto.setAssigneeId(row.get("assignee_id", Long.class));
+        dto.setAssigneeName(row.get("assignee_name", String.class));
+        dto.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        dto.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+        return dto;
+    }
+}
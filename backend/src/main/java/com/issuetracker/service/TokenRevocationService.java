@@ -0,0 +1,150 @@
+package com.issuetracker.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.issuetracker.dto.TokenRevokedEvent;
+import com.issuetracker.events.EventBus;
+import com.issuetracker.model.RevokedToken;
+import com.issuetracker.repository.RevokedTokenRepository;
+import com.issuetracker.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Revoked token ids, checked on every authenticated request.
+ *
+ * The {@code revoked_tokens} table is authoritative. Each node keeps a Bloom filter of the
+ * unexpired ids, so the common case - a token that was never revoked - is answered in memory.
+ * Only a filter hit goes to the database, and confirmed revocations are remembered.
+ *
+ * Revocations reach other nodes over the {@link EventBus}. The filter is also rebuilt from the
+ * table on a schedule, which drops expired ids and repairs anything a node missed.
+ */
+@Service
+public class TokenRevocationService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+    
+    public static final String TOKEN_REVOKED_DESTINATION = "/internal/tokens/revoked";
+    
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+    
+    @Autowired
+    private EventPublisher eventPublisher;
+    
+    @Autowired
+    private EventBus eventBus;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${auth.revocation.expected-tokens:100000}")
+    private long expectedTokens;
+    
+    @Value("${auth.revocation.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+    
+    private volatile BloomFilter filter;
+    
+    // Ids added while a rebuild is reading the table; copied into the new filter before the swap
+    private List<String> addedDuringRebuild;
+    
+    private final Cache<String, Boolean> confirmedRevoked = Caffeine.newBuilder()
+        .maximumSize(10_000)
+        .build();
+    
+    private Counter filterNegatives;
+    private Counter databaseChecks;
+    
+    @PostConstruct
+    void init() {
+        filterNegatives = Counter.builder("auth.revocation.checks").tag("result", "filter-negative").register(meterRegistry);
+        databaseChecks = Counter.builder("auth.revocation.checks").tag("result", "database").register(meterRegistry);
+        filter = new BloomFilter(expectedTokens, falsePositiveRate);
+        rebuild();
+        eventBus.subscribe(event -> {
+            if (TOKEN_REVOKED_DESTINATION.equals(event.getDestination())
+                    && event.getPayload() instanceof TokenRevokedEvent revoked) {
+                add(revoked.getJti());
+            }
+        });
+    }
+    
+    public boolean isRevoked(String jti) {
+        if (!filter.mightContain(jti)) {
+            filterNegatives.increment();
+            return false;
+        }
+        if (confirmedRevoked.getIfPresent(jti) != null) {
+            return true;
+        }
+        databaseChecks.increment();
+        boolean revoked = revokedTokenRepository.existsByJti(jti);
+        if (revoked) {
+            confirmedRevoked.put(jti, Boolean.TRUE);
+        }
+        return revoked;
+    }
+    
+    public void revoke(String jti, Date expiresAt) {
+        RevokedToken token = new RevokedToken();
+        token.setJti(jti);
+        token.setExpiresAt(LocalDateTime.ofInstant(expiresAt.toInstant(), ZoneId.systemDefault()));
+        try {
+            revokedTokenRepository.save(token);
+        } catch (DataIntegrityViolationException e) {
+            // Already revoked
+        }
+        add(jti);
+        eventPublisher.publish(TOKEN_REVOKED_DESTINATION, null, new TokenRevokedEvent(jti));
+    }
+    
+    @Scheduled(fixedDelayString = "${auth.revocation.rebuild-interval-ms:600000}",
+               initialDelayString = "${auth.revocation.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        synchronized (this) {
+            addedDuringRebuild = new ArrayList<>();
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            revokedTokenRepository.deleteExpired(now);
+            List<String> jtis = revokedTokenRepository.findActiveJtis(now);
+            if (jtis.size() > expectedTokens) {
+                logger.warn("{} revoked tokens exceed auth.revocation.expected-tokens={}, false positives will rise",
+                    jtis.size(), expectedTokens);
+            }
+            BloomFilter next = new BloomFilter(expectedTokens, falsePositiveRate);
+            jtis.forEach(next::put);
+            synchronized (this) {
+                addedDuringRebuild.forEach(next::put);
+                filter = next;
+            }
+        } finally {
+            synchronized (this) {
+                addedDuringRebuild = null;
+            }
+        }
+    }
+    
+    private synchronized void add(String jti) {
+        filter.put(jti);
+        if (addedDuringRebuild != null) {
+            addedDuringRebuild.add(jti);
+        }
+    }
+}
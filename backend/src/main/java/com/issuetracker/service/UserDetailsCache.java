@@ -0,0 +1,86 @@
+package com.issuetracker.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.issuetracker.dto.UserChangedEvent;
+import com.issuetracker.events.EventBus;
+import com.issuetracker.model.User;
+import com.issuetracker.repository.UserRepository;
+import com.issuetracker.security.AuthenticatedUser;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Principals for token-authenticated requests, keyed by email. Bounded in size and expired after
+ * a TTL; entries are also dropped on every node when a {@link UserChangedEvent} comes over the bus.
+ *
+ * Cached principals carry no password - login goes through {@link AuthService#loadUserByUsername}
+ * and always reads the database. Unknown emails are not cached. Hit/miss counts are published as
+ * {@code cache.gets{cache=userDetails}}.
+ */
+@Component
+public class UserDetailsCache {
+    
+    public static final String USER_CHANGED_DESTINATION = "/internal/users/changed";
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private EventBus eventBus;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${auth.user-cache.max-size:10000}")
+    private long maxSize;
+    
+    @Value("${auth.user-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+    
+    // Replaced in tests to expire entries without waiting
+    private Ticker ticker = Ticker.systemTicker();
+    
+    private Cache<String, UserDetails> cache;
+    
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .ticker(ticker)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userDetails");
+        eventBus.subscribe(event -> {
+            if (USER_CHANGED_DESTINATION.equals(event.getDestination())
+                    && event.getPayload() instanceof UserChangedEvent changed) {
+                invalidate(changed.getEmail());
+            }
+        });
+    }
+    
+    public UserDetails get(String email) throws UsernameNotFoundException {
+        return cache.get(email, this::load);
+    }
+    
+    public void invalidate(String email) {
+        cache.invalidate(email);
+    }
+    
+    private UserDetails load(String email) {
+        User user = userRepository.findByEmail(email)
+            .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+        
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getName());
+    }
+}
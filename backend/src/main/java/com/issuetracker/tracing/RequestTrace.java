@@ -0,0 +1,167 @@
+package com.issuetracker.tracing;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Span tree of one sampled request, held in a thread local by {@link TracingFilter} for the
+ * duration of the request. Instrumented code calls {@link #begin} and {@link #end}; both are
+ * no-ops (one thread-local read) when the current request is not being traced.
+ *
+ * <pre>
+ * RequestTrace.Span span = RequestTrace.begin("service", "IssueService.getIssues");
+ * try {
+ *     ...
+ * } finally {
+ *     RequestTrace.end(span);
+ * }
+ * </pre>
+ */
+public final class RequestTrace {
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    private final Span root;
+    private final Deque<Span> open = new ArrayDeque<>();
+    private final int maxSpans;
+    private int spanCount;
+    private int droppedSpans;
+
+    private RequestTrace(String name, int maxSpans) {
+        this.root = new Span("request", name, System.nanoTime());
+        this.maxSpans = maxSpans;
+        open.push(root);
+    }
+
+    static RequestTrace start(String name, int maxSpans) {
+        RequestTrace trace = new RequestTrace(name, maxSpans);
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    /** Opens a child of the innermost open span, or returns null when nothing is traced. */
+    public static Span begin(String kind, String name) {
+        RequestTrace trace = CURRENT.get();
+        if (trace == null) {
+            return null;
+        }
+        if (trace.spanCount >= trace.maxSpans) {
+            trace.droppedSpans++;
+            return null;
+        }
+        trace.spanCount++;
+        Span span = new Span(kind, name, System.nanoTime());
+        trace.open.peek().children.add(span);
+        trace.open.push(span);
+        return span;
+    }
+
+    public static void end(Span span) {
+        if (span == null) {
+            return;
+        }
+        span.end = System.nanoTime();
+        RequestTrace trace = CURRENT.get();
+        if (trace != null && trace.open.contains(span)) {
+            // Also closes children that were never ended
+            while (trace.open.pop() != span) {
+                // keep popping
+            }
+        }
+    }
+
+    Span finish() {
+        root.end = System.nanoTime();
+        return root;
+    }
+
+    long durationMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - root.start);
+    }
+
+    int droppedSpans() {
+        return droppedSpans;
+    }
+
+    public static final class Span {
+
+        private final String kind;
+        private final String name;
+        private final long start;
+        private final List<Span> children = new ArrayList<>(2);
+        private long end;
+        private long rows = -1;
+        private boolean error;
+
+        private Span(String kind, String name, long start) {
+            this.kind = kind;
+            this.name = name;
+            this.start = start;
+        }
+
+        /** Rows returned or affected (SQL spans); may be called after the span has ended. */
+        public void addRows(long count) {
+            rows = rows < 0 ? count : rows + count;
+        }
+
+        public void markError() {
+            error = true;
+        }
+
+        String kind() {
+            return kind;
+        }
+
+        double millis() {
+            return ((end != 0 ? end : System.nanoTime()) - start) / 1_000_000.0;
+        }
+
+        List<Span> children() {
+            return children;
+        }
+
+        /** Nested maps for the JSON log entry; offsets are relative to {@code origin}. */
+        Map<String, Object> toMap(long origin) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("kind", kind);
+            map.put("name", name);
+            map.put("offsetMs", round((start - origin) / 1_000_000.0));
+            map.put("ms", round(millis()));
+            if (rows >= 0) {
+                map.put("rows", rows);
+            }
+            if (error) {
+                map.put("error", true);
+            }
+            if (!children.isEmpty()) {
+                List<Map<String, Object>> list = new ArrayList<>(children.size());
+                for (Span child : children) {
+                    list.add(child.toMap(origin));
+                }
+                map.put("children", list);
+            }
+            return map;
+        }
+
+        long start() {
+            return start;
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 100) / 100.0;
+        }
+    }
+}
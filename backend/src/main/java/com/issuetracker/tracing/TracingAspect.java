@@ -0,0 +1,32 @@
+package com.issuetracker.tracing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * Records a span per public service method call on traced requests. Calls a service makes to its
+ * own methods are not proxied and so not recorded separately. Registered by {@link TracingConfig}.
+ */
+@Aspect
+public class TracingAspect {
+
+    @Around("execution(public * com.issuetracker.service..*(..))")
+    public Object trace(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!RequestTrace.isActive()) {
+            return joinPoint.proceed();
+        }
+        RequestTrace.Span span = RequestTrace.begin("service",
+            joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName());
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            if (span != null) {
+                span.markError();
+            }
+            throw e;
+        } finally {
+            RequestTrace.end(span);
+        }
+    }
+}
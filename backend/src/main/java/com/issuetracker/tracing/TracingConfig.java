@@ -0,0 +1,51 @@
+package com.issuetracker.tracing;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * In-process slow-request tracing (see {@link TracingFilter}); on unless {@code tracing.enabled=false}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "tracing.enabled", havingValue = "true", matchIfMissing = true)
+public class TracingConfig {
+
+    @Bean
+    public FilterRegistrationBean<TracingFilter> tracingFilter(
+            @Value("${tracing.sample-rate:0.1}") double sampleRate,
+            @Value("${tracing.slow-threshold-ms:500}") long slowThresholdMs,
+            @Value("${tracing.max-spans:1000}") int maxSpans) {
+        FilterRegistrationBean<TracingFilter> registration =
+            new FilterRegistrationBean<>(new TracingFilter(sampleRate, slowThresholdMs, maxSpans));
+        // Ahead of Spring Security, so the JWT filter is inside the trace
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    public TracingAspect tracingAspect() {
+        return new TracingAspect();
+    }
+
+    /** Wraps the application's data source (also the routing one, when a replica is configured). */
+    @Bean
+    public static BeanPostProcessor tracingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof TracingDataSource)) {
+                    return new TracingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,124 @@
+package com.issuetracker.tracing;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Records a span per executed SQL statement, with the rows returned or affected, for connections
+ * obtained while a request is traced. Other connections are handed out unwrapped, so untraced
+ * requests and background jobs pay nothing beyond a thread-local read. Query rows are counted as
+ * the caller iterates the result set.
+ */
+public class TracingDataSource extends DelegatingDataSource {
+
+    public TracingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Connection connection = super.getConnection();
+        return RequestTrace.isActive() ? wrap(connection) : connection;
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Connection connection = super.getConnection(username, password);
+        return RequestTrace.isActive() ? wrap(connection) : connection;
+    }
+
+    private static Connection wrap(Connection connection) {
+        return proxy(Connection.class, (p, method, args) -> {
+            Object result = delegate(connection, method, args);
+            switch (method.getName()) {
+                case "prepareStatement":
+                    return proxy(PreparedStatement.class, new StatementHandler(result, (String) args[0]));
+                case "prepareCall":
+                    return proxy(CallableStatement.class, new StatementHandler(result, (String) args[0]));
+                case "createStatement":
+                    return proxy(Statement.class, new StatementHandler(result, null));
+                default:
+                    return result;
+            }
+        });
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Object statement;
+        private final String preparedSql;
+
+        StatementHandler(Object statement, String preparedSql) {
+            this.statement = statement;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (!name.startsWith("execute")) {
+                return delegate(statement, method, args);
+            }
+            String sql = preparedSql != null ? preparedSql
+                : args != null && args.length > 0 && args[0] instanceof String text ? text : "(batch)";
+            RequestTrace.Span span = RequestTrace.begin("sql", sql);
+            try {
+                Object result = delegate(statement, method, args);
+                if (span != null) {
+                    if (result instanceof ResultSet resultSet) {
+                        span.addRows(0);
+                        return proxy(ResultSet.class, (p, m, a) -> {
+                            Object value = delegate(resultSet, m, a);
+                            if ("next".equals(m.getName()) && Boolean.TRUE.equals(value)) {
+                                span.addRows(1);
+                            }
+                            return value;
+                        });
+                    } else if (result instanceof Integer count) {
+                        span.addRows(count);
+                    } else if (result instanceof Long count) {
+                        span.addRows(count);
+                    } else if (result instanceof int[] counts) {
+                        long total = 0;
+                        for (int count : counts) {
+                            total += Math.max(count, 0);
+                        }
+                        span.addRows(total);
+                    }
+                }
+                return result;
+            } catch (Throwable e) {
+                if (span != null) {
+                    span.markError();
+                }
+                throw e;
+            } finally {
+                RequestTrace.end(span);
+            }
+        }
+    }
+
+    private static Object delegate(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(TracingDataSource.class.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+}
@@ -0,0 +1,99 @@
+package com.issuetracker.tracing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Traces a sample of requests ({@code tracing.sample-rate}) and, for those slower than
+ * {@code tracing.slow-threshold-ms}, logs the span tree as one JSON line on the
+ * {@code com.issuetracker.tracing.SlowRequests} logger: the JWT filter, each service method, each
+ * SQL statement with its row count and each STOMP send, plus SQL totals.
+ *
+ * Requests that are not sampled cost one random number. Async requests (SSE streams) are never
+ * reported, their duration is the life of the stream. Registered first in the filter chain by
+ * {@link TracingConfig}.
+ */
+public class TracingFilter extends OncePerRequestFilter {
+
+    private static final Logger slowRequests = LoggerFactory.getLogger("com.issuetracker.tracing.SlowRequests");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final double sampleRate;
+    private final long slowThresholdMs;
+    private final int maxSpans;
+
+    public TracingFilter(double sampleRate, long slowThresholdMs, int maxSpans) {
+        this.sampleRate = sampleRate;
+        this.slowThresholdMs = slowThresholdMs;
+        this.maxSpans = maxSpans;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (sampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        RequestTrace trace = RequestTrace.start(request.getMethod() + " " + request.getRequestURI(), maxSpans);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestTrace.clear();
+            long durationMs = trace.durationMillis();
+            if (durationMs >= slowThresholdMs && !request.isAsyncStarted()) {
+                report(trace, request, response, durationMs);
+            }
+        }
+    }
+
+    private void report(RequestTrace trace, HttpServletRequest request, HttpServletResponse response, long durationMs) {
+        RequestTrace.Span root = trace.finish();
+        long[] sql = new long[2]; // statements, nanos
+        sumSql(root, sql);
+
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("type", "slow-request");
+        entry.put("method", request.getMethod());
+        entry.put("uri", request.getRequestURI());
+        entry.put("query", request.getQueryString());
+        entry.put("status", response.getStatus());
+        entry.put("durationMs", durationMs);
+        entry.put("thresholdMs", slowThresholdMs);
+        entry.put("sqlStatements", sql[0]);
+        entry.put("sqlMs", Math.round(sql[1] / 10_000.0) / 100.0);
+        if (trace.droppedSpans() > 0) {
+            entry.put("droppedSpans", trace.droppedSpans());
+        }
+        entry.put("spans", root.toMap(root.start()));
+        try {
+            slowRequests.warn(objectMapper.writeValueAsString(entry));
+        } catch (JsonProcessingException e) {
+            slowRequests.warn("Slow request {} {} took {} ms (trace not serializable)",
+                request.getMethod(), request.getRequestURI(), durationMs);
+        }
+    }
+
+    private static void sumSql(RequestTrace.Span span, long[] totals) {
+        for (RequestTrace.Span child : span.children()) {
+            if ("sql".equals(child.kind())) {
+                totals[0]++;
+                totals[1] += (long) (child.millis() * 1_000_000);
+            }
+            sumSql(child, totals);
+        }
+    }
+}
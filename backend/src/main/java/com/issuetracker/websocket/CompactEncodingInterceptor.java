@@ -0,0 +1,79 @@
+package com.issuetracker.websocket;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Negotiates the compact event encoding per STOMP session and applies it to outgoing MESSAGE frames.
+ *
+ * A client opts in by sending {@code accept-encoding: cbor-v1} on CONNECT. It is only honoured on
+ * the native WebSocket endpoint, because SockJS text frames cannot carry binary payloads. Compact
+ * frames go out as binary with content-type application/octet-stream and an
+ * {@code event-encoding: cbor-v1} header. Registered on both client channels.
+ */
+@Component
+public class CompactEncodingInterceptor implements ChannelInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompactEncodingInterceptor.class);
+
+    @Autowired
+    private CompactEventCodec codec;
+
+    @Value("${websocket.compact-encoding.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+
+        if (type == SimpMessageType.CONNECT) {
+            negotiate(message, sessionId);
+        } else if (type == SimpMessageType.DISCONNECT) {
+            codec.disable(sessionId);
+        } else if (type == SimpMessageType.MESSAGE && codec.isEnabled(sessionId)
+                && message.getPayload() instanceof byte[] json) {
+            try {
+                SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+                accessor.setContentType(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+                accessor.setNativeHeader("event-encoding", CompactEventCodec.ENCODING_NAME);
+                return MessageBuilder.createMessage(codec.encodeShared(json), accessor.getMessageHeaders());
+            } catch (IOException e) {
+                logger.warn("Could not encode frame for session {}, sending JSON", sessionId, e);
+            }
+        }
+        return message;
+    }
+
+    private void negotiate(Message<?> message, String sessionId) {
+        if (!enabled) {
+            return;
+        }
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        if (accessor.getCommand() != StompCommand.CONNECT && accessor.getCommand() != StompCommand.STOMP) {
+            return;
+        }
+        String acceptEncoding = accessor.getFirstNativeHeader("accept-encoding");
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        boolean nativeTransport = attributes != null
+            && Boolean.TRUE.equals(attributes.get(NativeTransportHandshakeInterceptor.NATIVE_TRANSPORT));
+        if (nativeTransport && acceptEncoding != null && acceptEncoding.contains(CompactEventCodec.ENCODING_NAME)) {
+            codec.enable(sessionId);
+        }
+    }
+}
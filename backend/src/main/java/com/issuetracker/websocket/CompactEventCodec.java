@@ -0,0 +1,138 @@
+package com.issuetracker.websocket;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compact wire format for real-time events: CBOR with small integer keys instead of field names.
+ *
+ * Transcoding streams JSON tokens straight into CBOR without building a tree. Field ids are the
+ * position in {@link #FIELDS} plus one and are part of the client contract, so new fields must be
+ * appended; unknown fields are written with their string name. Values keep their JSON types.
+ *
+ * <pre>
+ *  1 eventType      5 priority      9 authorId       13 userId
+ *  2 issueId        6 projectId    10 authorName     14 userName
+ *  3 title          7 commentId    11 activityLogId  15 oldValue
+ *  4 status         8 content      12 activityType   16 newValue
+ * </pre>
+ *
+ * {@link #decode} is the reference decoder for clients and tests.
+ */
+@Component
+public class CompactEventCodec {
+
+    public static final String ENCODING_NAME = "cbor-v1";
+
+    /**
+     * Field names by id - 1. Append only.
+     */
+    public static final List<String> FIELDS = List.of(
+        "eventType", "issueId", "title", "status", "priority", "projectId",
+        "commentId", "content", "authorId", "authorName",
+        "activityLogId", "activityType", "userId", "userName", "oldValue", "newValue");
+
+    private static final Map<String, Integer> FIELD_IDS = new HashMap<>();
+
+    static {
+        for (int i = 0; i < FIELDS.size(); i++) {
+            FIELD_IDS.put(FIELDS.get(i), i + 1);
+        }
+    }
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final CBORFactory cborFactory = new CBORFactory();
+
+    private final Set<String> compactSessions = ConcurrentHashMap.newKeySet();
+
+    // The broker sends the same payload array to every subscriber, so transcode each one once.
+    // byte[] uses identity equality, which is exactly what this cache needs.
+    private final Map<byte[], byte[]> recent = Collections.synchronizedMap(new WeakHashMap<>());
+
+    public void enable(String sessionId) {
+        compactSessions.add(sessionId);
+    }
+
+    public void disable(String sessionId) {
+        compactSessions.remove(sessionId);
+    }
+
+    public boolean isEnabled(String sessionId) {
+        return sessionId != null && compactSessions.contains(sessionId);
+    }
+
+    public byte[] encodeShared(byte[] json) throws IOException {
+        byte[] cached = recent.get(json);
+        if (cached == null) {
+            cached = encode(json);
+            recent.put(json, cached);
+        }
+        return cached;
+    }
+
+    public byte[] encode(byte[] json) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 2 + 16);
+        try (JsonParser parser = jsonFactory.createParser(json);
+             CBORGenerator generator = cborFactory.createGenerator(out)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.FIELD_NAME) {
+                    Integer id = FIELD_IDS.get(parser.currentName());
+                    if (id != null) {
+                        generator.writeFieldId(id);
+                    } else {
+                        generator.writeFieldName(parser.currentName());
+                    }
+                } else {
+                    generator.copyCurrentEvent(parser);
+                }
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Turns a compact frame back into the JSON the server would otherwise have sent.
+     */
+    public byte[] decode(byte[] cbor) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(cbor.length * 2 + 16);
+        try (JsonParser parser = cborFactory.createParser(cbor);
+             JsonGenerator generator = jsonFactory.createGenerator(out)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.FIELD_NAME) {
+                    generator.writeFieldName(fieldName(parser.currentName()));
+                } else {
+                    generator.copyCurrentEvent(parser);
+                }
+            }
+        }
+        return out.toByteArray();
+    }
+
+    // Integer keys come back from the CBOR parser as their decimal string
+    private static String fieldName(String key) {
+        if (!key.isEmpty() && key.length() <= 3 && key.chars().allMatch(Character::isDigit)) {
+            int id = Integer.parseInt(key);
+            if (id >= 1 && id <= FIELDS.size()) {
+                return FIELDS.get(id - 1);
+            }
+        }
+        return key;
+    }
+}
@@ -0,0 +1,34 @@
+package com.issuetracker.websocket;
+
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+/**
+ * Decorates each session once, as a {@link MonitoredWebSocketSession} with the transport's send time and
+ * buffer size limits, instead of Spring's default decorator that always terminates on overflow.
+ */
+public class MonitoredSubProtocolWebSocketHandler extends SubProtocolWebSocketHandler {
+
+    private final WebSocketSessionMonitor monitor;
+
+    public MonitoredSubProtocolWebSocketHandler(MessageChannel clientInboundChannel,
+                                                SubscribableChannel clientOutboundChannel,
+                                                WebSocketSessionMonitor monitor) {
+        super(clientInboundChannel, clientOutboundChannel);
+        this.monitor = monitor;
+    }
+
+    @Override
+    protected WebSocketSession decorateSession(WebSocketSession session) {
+        return monitor.register(session, getSendTimeLimit(), getSendBufferSizeLimit());
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+        monitor.unregister(session.getId());
+        super.afterConnectionClosed(session, closeStatus);
+    }
+}
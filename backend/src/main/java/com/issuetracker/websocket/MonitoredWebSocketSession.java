@@ -0,0 +1,84 @@
+package com.issuetracker.websocket;
+
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Spring's {@link ConcurrentWebSocketSessionDecorator} with metrics. Buffering, the send time limit and the
+ * overflow strategy are all Spring's; this class only times frame writes, counts the bytes discarded by the
+ * DROP strategy and reports sessions closed for exceeding a limit to the {@link WebSocketSessionMonitor}.
+ */
+public class MonitoredWebSocketSession extends ConcurrentWebSocketSessionDecorator {
+
+    private final WebSocketSessionMonitor monitor;
+
+    // Bytes that entered the buffer; what was neither written nor is still buffered was dropped
+    private final AtomicLong acceptedBytes = new AtomicLong();
+
+    // Only used while Spring's flush lock is held
+    private long writtenBytes;
+    private long droppedBytes;
+
+    public MonitoredWebSocketSession(WebSocketSession delegate, int sendTimeLimit, int bufferSizeLimit,
+                                     OverflowStrategy overflowStrategy, WebSocketSessionMonitor monitor) {
+        super(new TimedWriter(delegate, monitor), sendTimeLimit, bufferSizeLimit, overflowStrategy);
+        this.monitor = monitor;
+        ((TimedWriter) getDelegate()).session = this;
+        setMessageCallback(message -> acceptedBytes.addAndGet(message.getPayloadLength()));
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        try {
+            super.sendMessage(message);
+        } catch (SessionLimitExceededException e) {
+            // Spring throws this once; the sub-protocol handler then closes the session
+            monitor.recordLimitExceeded(getTimeSinceSendStarted() > getSendTimeLimit());
+            throw e;
+        }
+    }
+
+    /**
+     * Called by the flushing thread for every frame it takes off the buffer. Frames added meanwhile can only
+     * make the difference smaller, so a frame that is written is never counted as dropped.
+     */
+    private void beforeWrite(int length) {
+        writtenBytes += length;
+        long dropped = acceptedBytes.get() - getBufferSize() - writtenBytes;
+        if (dropped > droppedBytes) {
+            monitor.recordDropped(dropped - droppedBytes);
+            droppedBytes = dropped;
+        }
+    }
+
+    /**
+     * Sits between Spring's buffer and the real session, so it sees exactly one write at a time.
+     */
+    private static class TimedWriter extends WebSocketSessionDecorator {
+
+        private final WebSocketSessionMonitor monitor;
+        private MonitoredWebSocketSession session;
+
+        TimedWriter(WebSocketSession delegate, WebSocketSessionMonitor monitor) {
+            super(delegate);
+            this.monitor = monitor;
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            session.beforeWrite(message.getPayloadLength());
+            long start = System.nanoTime();
+            try {
+                super.sendMessage(message);
+            } finally {
+                monitor.recordSend(System.nanoTime() - start);
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.issuetracker.websocket;
+
+import com.issuetracker.filter.JwtAuthenticationFilter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Pattern;
+
+/**
+ * Authenticates STOMP sessions. The handshake on /ws and /ws-native is open (browsers cannot add
+ * headers to it), so the JWT travels as {@code Authorization: Bearer ...} on the CONNECT frame and
+ * becomes the session user. A CONNECT with an invalid token is refused; one without a token stays
+ * anonymous and may only subscribe to topics, not to the issue snapshot.
+ *
+ * Rejections are thrown, which makes Spring send an ERROR frame and close the session.
+ */
+@Component
+public class StompAuthenticationInterceptor implements ChannelInterceptor {
+
+    private static final Pattern SNAPSHOT_DESTINATION = Pattern.compile("/app/issues/[^/]+/snapshot");
+
+    @Autowired
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        StompCommand command = accessor.getCommand();
+        if (command == StompCommand.CONNECT || command == StompCommand.STOMP) {
+            String authorization = accessor.getFirstNativeHeader("Authorization");
+            if (authorization != null) {
+                UserDetails user = authorization.startsWith("Bearer ")
+                    ? jwtAuthenticationFilter.loadPrincipal(authorization.substring(7))
+                    : null;
+                if (user == null) {
+                    throw new MessageDeliveryException("Invalid or expired token");
+                }
+                // Remembered by the protocol handler and attached to every later frame of the session
+                accessor.setUser(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+            }
+        } else if (command == StompCommand.SUBSCRIBE && accessor.getUser() == null
+                && accessor.getDestination() != null
+                && SNAPSHOT_DESTINATION.matcher(accessor.getDestination()).matches()) {
+            throw new MessageDeliveryException("Authentication required for " + accessor.getDestination());
+        }
+        return message;
+    }
+}
@@ -0,0 +1,64 @@
+package com.issuetracker.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Counts STOMP messages on one client channel as {@code websocket.messages}, tagged with the
+ * direction, the message type (CONNECT, SUBSCRIBE, MESSAGE, ...) and the destination with numeric
+ * ids replaced by {@code {id}}, so {@code /topic/issues/42/comments} and
+ * {@code /topic/issues/7/comments} share a counter. Destinations are client-supplied, so past
+ * {@link #MAX_DESTINATIONS} distinct ones the rest are counted as "other".
+ */
+public class StompMetricsInterceptor implements ChannelInterceptor {
+
+    static final int MAX_DESTINATIONS = 200;
+
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+    private final MeterRegistry meterRegistry;
+    private final String direction;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public StompMetricsInterceptor(MeterRegistry meterRegistry, String direction) {
+        this.meterRegistry = meterRegistry;
+        this.direction = direction;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        if (type == null || type == SimpMessageType.HEARTBEAT) {
+            return message;
+        }
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        String normalized = destination != null ? NUMERIC_SEGMENT.matcher(destination).replaceAll("/{id}") : "none";
+        String key = type.name() + ' ' + normalized;
+
+        Counter counter = counters.get(key);
+        if (counter == null) {
+            if (counters.size() >= MAX_DESTINATIONS) {
+                normalized = "other";
+                key = type.name() + ' ' + normalized;
+            }
+            String destinationTag = normalized;
+            counter = counters.computeIfAbsent(key, k -> Counter.builder("websocket.messages")
+                .description("STOMP messages through the client channels")
+                .tag("direction", direction)
+                .tag("type", type.name())
+                .tag("destination", destinationTag)
+                .register(meterRegistry));
+        }
+        counter.increment();
+        return message;
+    }
+}
@@ -0,0 +1,111 @@
+package com.issuetracker.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator.OverflowStrategy;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks live STOMP WebSocket sessions, each a {@link MonitoredWebSocketSession}, and publishes send buffer,
+ * send latency, drop and limit metrics. Per-session detail is only aggregated (max/total) to keep the
+ * number of series fixed; the meters are served by the protected actuator endpoints.
+ */
+@Component
+public class WebSocketSessionMonitor {
+
+    // TERMINATE or DROP, see ConcurrentWebSocketSessionDecorator.OverflowStrategy
+    @Value("${websocket.slow-consumer-policy:TERMINATE}")
+    private OverflowStrategy overflowStrategy;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<String, ConcurrentWebSocketSessionDecorator> sessions = new ConcurrentHashMap<>();
+
+    private Timer sendTimer;
+    private Counter droppedCounter;
+    private Counter sendTimeLimitCounter;
+    private Counter bufferSizeLimitCounter;
+
+    @PostConstruct
+    void init() {
+        sendTimer = Timer.builder("websocket.session.send")
+            .description("Time to write one frame to a WebSocket session")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        droppedCounter = Counter.builder("websocket.session.dropped")
+            .description("Buffered frames discarded for slow consumers by the DROP policy")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        sendTimeLimitCounter = Counter.builder("websocket.session.terminated")
+            .description("Sessions closed for exceeding a send limit")
+            .tag("limit", "send-time")
+            .register(meterRegistry);
+        bufferSizeLimitCounter = Counter.builder("websocket.session.terminated")
+            .description("Sessions closed for exceeding a send limit")
+            .tag("limit", "buffer-size")
+            .register(meterRegistry);
+        Gauge.builder("websocket.sessions", sessions, Map::size)
+            .description("Open STOMP WebSocket sessions")
+            .register(meterRegistry);
+        Gauge.builder("websocket.session.buffer.max", this, WebSocketSessionMonitor::maxBufferSize)
+            .description("Largest outbound send buffer across sessions")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        Gauge.builder("websocket.session.buffer.total", this, WebSocketSessionMonitor::totalBufferSize)
+            .description("Outbound bytes buffered across all sessions")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        Gauge.builder("websocket.session.send.in-flight.max", this, WebSocketSessionMonitor::maxTimeSinceSendStarted)
+            .description("Longest write still in progress; sessions are closed once it passes the send time limit")
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+    }
+
+    ConcurrentWebSocketSessionDecorator register(WebSocketSession session, int sendTimeLimit, int bufferSizeLimit) {
+        ConcurrentWebSocketSessionDecorator decorated =
+            new MonitoredWebSocketSession(session, sendTimeLimit, bufferSizeLimit, overflowStrategy, this);
+        sessions.put(session.getId(), decorated);
+        return decorated;
+    }
+
+    void unregister(String sessionId) {
+        sessions.remove(sessionId);
+    }
+
+    void recordSend(long nanos) {
+        sendTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordDropped(long bytes) {
+        droppedCounter.increment(bytes);
+    }
+
+    void recordLimitExceeded(boolean sendTimeLimit) {
+        (sendTimeLimit ? sendTimeLimitCounter : bufferSizeLimitCounter).increment();
+    }
+
+    private double maxBufferSize() {
+        return sessions.values().stream().mapToInt(ConcurrentWebSocketSessionDecorator::getBufferSize).max().orElse(0);
+    }
+
+    private double totalBufferSize() {
+        return sessions.values().stream().mapToLong(ConcurrentWebSocketSessionDecorator::getBufferSize).sum();
+    }
+
+    private double maxTimeSinceSendStarted() {
+        return sessions.values().stream()
+            .mapToLong(ConcurrentWebSocketSessionDecorator::getTimeSinceSendStarted).max().orElse(0);
+    }
+}
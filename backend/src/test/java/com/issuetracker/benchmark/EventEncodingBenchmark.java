@@ -0,0 +1,164 @@
+package com.issuetracker.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.issuetracker.dto.ActivityLogUpdateEvent;
+import com.issuetracker.dto.CommentUpdateEvent;
+import com.issuetracker.dto.IssueUpdateEvent;
+import com.issuetracker.model.ActivityType;
+import com.issuetracker.model.IssuePriority;
+import com.issuetracker.model.IssueStatus;
+import com.issuetracker.websocket.CompactEventCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+
+/**
+ * Serialization cost and bytes-on-wire for a typical event mix: JSON (what SockJS clients get),
+ * the compact CBOR encoding, and JSON through permessage-deflate.
+ *
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.include=EventEncoding}. Byte counts
+ * per message are printed once per trial, since JMH only reports time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventEncodingBenchmark {
+
+    /** Share of comment events in the mix; comments dominate size because they carry content. */
+    @Param({"0.2", "0.5"})
+    public double commentShare;
+
+    @Param({"200", "2000"})
+    public int commentLength;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CompactEventCodec codec = new CompactEventCodec();
+
+    private List<Object> events;
+    private List<byte[]> jsonPayloads;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        events = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            double roll = random.nextDouble();
+            if (roll < commentShare) {
+                events.add(new CommentUpdateEvent("CREATED", (long) i, (long) random.nextInt(5000),
+                    text(random, commentLength), (long) random.nextInt(100), "User " + random.nextInt(100)));
+            } else if (roll < commentShare + (1 - commentShare) / 2) {
+                events.add(new IssueUpdateEvent("UPDATED", (long) random.nextInt(5000), text(random, 40),
+                    IssueStatus.values()[random.nextInt(IssueStatus.values().length)],
+                    IssuePriority.values()[random.nextInt(IssuePriority.values().length)],
+                    (long) random.nextInt(50)));
+            } else {
+                events.add(new ActivityLogUpdateEvent("CREATED", (long) i, (long) random.nextInt(5000),
+                    ActivityType.STATUS_CHANGED, (long) random.nextInt(100), "User " + random.nextInt(100),
+                    "OPEN", "IN_PROGRESS"));
+            }
+        }
+        jsonPayloads = new ArrayList<>(events.size());
+        for (Object event : events) {
+            jsonPayloads.add(objectMapper.writeValueAsBytes(event));
+        }
+        printWireSizes();
+    }
+
+    @Benchmark
+    public long json() throws IOException {
+        long total = 0;
+        for (Object event : events) {
+            total += objectMapper.writeValueAsBytes(event).length;
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long cbor() throws IOException {
+        long total = 0;
+        for (Object event : events) {
+            total += codec.encode(objectMapper.writeValueAsBytes(event)).length;
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long jsonDeflate() throws IOException {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        byte[] buffer = new byte[8192];
+        long total = 0;
+        try {
+            for (Object event : events) {
+                total += deflate(deflater, objectMapper.writeValueAsBytes(event), buffer);
+            }
+        } finally {
+            deflater.end();
+        }
+        return total;
+    }
+
+    private void printWireSizes() throws IOException {
+        long json = 0;
+        long cbor = 0;
+        long deflated = 0;
+        long cborDeflated = 0;
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        Deflater cborDeflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        byte[] buffer = new byte[8192];
+        try {
+            for (byte[] payload : jsonPayloads) {
+                byte[] compact = codec.encode(payload);
+                json += payload.length;
+                cbor += compact.length;
+                deflated += deflate(deflater, payload, buffer);
+                cborDeflated += deflate(cborDeflater, compact, buffer);
+            }
+        } finally {
+            deflater.end();
+            cborDeflater.end();
+        }
+        int n = jsonPayloads.size();
+        System.out.printf("%nbytes/message (commentShare=%s, commentLength=%d): json=%d cbor=%d json+deflate=%d cbor+deflate=%d%n",
+            commentShare, commentLength, json / n, cbor / n, deflated / n, cborDeflated / n);
+    }
+
+    // Same framing as permessage-deflate with context takeover: one shared window, sync-flushed per message
+    private static int deflate(Deflater deflater, byte[] input, byte[] buffer) {
+        deflater.setInput(input);
+        int total = 0;
+        int written;
+        do {
+            written = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+            total += written;
+        } while (written == buffer.length);
+        return total;
+    }
+
+    private static String text(Random random, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        String[] words = {"the", "issue", "fails", "when", "build", "server", "after", "deploy", "login", "page", "error", "fix"};
+        while (sb.length() < length) {
+            sb.append(words[random.nextInt(words.length)]).append(' ');
+        }
+        return sb.substring(0, length);
+    }
+}
@@ -0,0 +1,106 @@
+package com.issuetracker.benchmark;
+
+import com.issuetracker.dto.IssueDto;
+import com.issuetracker.dto.PageResponse;
+import com.issuetracker.model.Issue;
+import com.issuetracker.model.IssuePriority;
+import com.issuetracker.model.IssueStatus;
+import com.issuetracker.model.Project;
+import com.issuetracker.model.User;
+import com.issuetracker.repository.IssueRepository;
+import com.issuetracker.service.IssueService;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The CPU part of {@code GET /api/issues}: IssueService.getIssues building the Sort and mapping a
+ * page of loaded entities to DTOs. The repository is a mock returning the same page: its dispatch
+ * cost, constant per call, is included; no database time is.
+ *
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.include=IssueServiceBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IssueServiceBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private IssueService issueService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        User owner = user(1L, "Project Owner");
+        Project project = new Project();
+        project.setId(1L);
+        project.setName("Benchmark Project");
+        project.setOwner(owner);
+
+        List<Issue> issues = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Issue item = new Issue();
+            item.setId((long) i);
+            item.setTitle("Issue number " + i + " fails after deploy");
+            item.setDescription("Steps to reproduce: open the page, click save, observe the error. ".repeat(4));
+            item.setStatus(IssueStatus.values()[i % IssueStatus.values().length]);
+            item.setPriority(IssuePriority.values()[i % IssuePriority.values().length]);
+            item.setProject(project);
+            item.setCreator(user(100L + i % 10, "Creator " + i % 10));
+            item.setAssignee(i % 3 == 0 ? null : user(200L + i % 7, "Assignee " + i % 7));
+            item.setCreatedAt(LocalDateTime.now().minusDays(i));
+            item.setUpdatedAt(LocalDateTime.now().minusHours(i));
+            issues.add(item);
+        }
+        Page<Issue> page = new PageImpl<>(issues, PageRequest.of(0, pageSize), 10_000);
+
+        IssueRepository issueRepository = Mockito.mock(IssueRepository.class);
+        Mockito.when(issueRepository.findAllWithFilters(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(),
+            Mockito.any(), Mockito.any(Pageable.class))).thenReturn(page);
+        issueService = new IssueService();
+        ReflectionTestUtils.setField(issueService, "issueRepository", issueRepository);
+    }
+
+    // Default list view: newest first
+    @Benchmark
+    public PageResponse<IssueDto> getIssuesByCreatedAt() {
+        return issueService.getIssues(0, pageSize, null, "desc", null, null, null, null, null);
+    }
+
+    @Benchmark
+    public PageResponse<IssueDto> getIssuesByPriority() {
+        return issueService.getIssues(0, pageSize, "priority", "asc", IssueStatus.OPEN, null, null, 1L, null);
+    }
+
+    private static User user(Long id, String name) {
+        User user = new User();
+        user.setId(id);
+        user.setName(name);
+        user.setEmail("user" + id + "@example.com");
+        return user;
+    }
+}
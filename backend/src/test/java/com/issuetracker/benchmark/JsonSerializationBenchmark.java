@@ -0,0 +1,105 @@
+package com.issuetracker.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.issuetracker.dto.ActivityLogUpdateEvent;
+import com.issuetracker.dto.CommentUpdateEvent;
+import com.issuetracker.dto.IssueDto;
+import com.issuetracker.dto.IssueUpdateEvent;
+import com.issuetracker.dto.PageResponse;
+import com.issuetracker.model.ActivityType;
+import com.issuetracker.model.IssuePriority;
+import com.issuetracker.model.IssueStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the REST issue page and of the real-time event payloads, with an
+ * ObjectMapper configured the way Spring Boot configures the application's.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private PageResponse<IssueDto> issuePage;
+    private IssueUpdateEvent issueEvent;
+    private CommentUpdateEvent commentEvent;
+    private ActivityLogUpdateEvent activityEvent;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<IssueDto> issues = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            IssueDto dto = new IssueDto();
+            dto.setId((long) i);
+            dto.setTitle("Issue number " + i + " fails after deploy");
+            dto.setDescription("Steps to reproduce: open the page, click save, observe the error. ".repeat(4));
+            dto.setStatus(IssueStatus.values()[i % IssueStatus.values().length]);
+            dto.setPriority(IssuePriority.values()[i % IssuePriority.values().length]);
+            dto.setProjectId(1L);
+            dto.setProjectName("Benchmark Project");
+            dto.setCreatorId(100L + i % 10);
+            dto.setCreatorName("Creator " + i % 10);
+            if (i % 3 != 0) {
+                dto.setAssigneeId(200L + i % 7);
+                dto.setAssigneeName("Assignee " + i % 7);
+            }
+            dto.setCreatedAt(LocalDateTime.now().minusDays(i));
+            dto.setUpdatedAt(LocalDateTime.now().minusHours(i));
+            issues.add(dto);
+        }
+        issuePage = new PageResponse<>(issues, 0, pageSize, 10_000, 10_000 / pageSize, false);
+
+        issueEvent = new IssueUpdateEvent("UPDATED", 42L, "Login page fails after deploy",
+            IssueStatus.IN_PROGRESS, IssuePriority.HIGH, 1L);
+        commentEvent = new CommentUpdateEvent("CREATED", 7L, 42L,
+            "Reproduced on staging, the session cookie is dropped after the redirect.", 3L, "User 3");
+        activityEvent = new ActivityLogUpdateEvent("CREATED", 9L, 42L, ActivityType.STATUS_CHANGED,
+            3L, "User 3", "OPEN", "IN_PROGRESS");
+    }
+
+    @Benchmark
+    public byte[] issuePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(issuePage);
+    }
+
+    @Benchmark
+    public byte[] issueUpdateEvent() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(issueEvent);
+    }
+
+    @Benchmark
+    public byte[] commentUpdateEvent() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(commentEvent);
+    }
+
+    @Benchmark
+    public byte[] activityLogUpdateEvent() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(activityEvent);
+    }
+}
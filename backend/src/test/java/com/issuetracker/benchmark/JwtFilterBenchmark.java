@@ -0,0 +1,171 @@
+package com.issuetracker.benchmark;
+
+import com.issuetracker.events.InMemoryEventBus;
+import com.issuetracker.filter.JwtAuthenticationFilter;
+import com.issuetracker.model.User;
+import com.issuetracker.repository.RevokedTokenRepository;
+import com.issuetracker.repository.UserRepository;
+import com.issuetracker.service.TokenRevocationService;
+import com.issuetracker.service.UserDetailsCache;
+import com.issuetracker.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token handling on the JwtAuthenticationFilter path, per request.
+ *
+ * {@code legacy} reproduces the previous filter: a new key and parser for every parse and three
+ * parses per request (subject, then subject + expiry in validateToken). {@code parseClaimsHot}
+ * is the current path for a client that keeps sending the same token; {@code parseClaimsCold}
+ * cycles through more tokens than the verified-token cache holds, so every call verifies.
+ * {@code validateToken} is the older JwtUtil helper.
+ *
+ * {@code authenticatedRequest} is the whole filter for a hot token: header extraction, token parse
+ * (verified-token cache hit), revocation check (Bloom filter miss), principal from the user cache
+ * (hit) and SecurityContext population. Request/response objects are created per call, as the
+ * servlet container would.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "mySecretKeyForJWTTokenGenerationThatShouldBeAtLeast256BitsLong";
+    private static final int HOT_TOKENS = 100;
+    private static final int COLD_TOKENS = 20_000;
+
+    private JwtUtil jwtUtil;
+    private JwtAuthenticationFilter filter;
+    private String[] tokens;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 3_600_000L);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheSize", 1_000L);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+
+        RevokedTokenRepository revokedTokenRepository = Mockito.mock(RevokedTokenRepository.class);
+        Mockito.when(revokedTokenRepository.findActiveJtis(Mockito.any())).thenReturn(List.of());
+        TokenRevocationService revocationService = new TokenRevocationService();
+        ReflectionTestUtils.setField(revocationService, "revokedTokenRepository", revokedTokenRepository);
+        ReflectionTestUtils.setField(revocationService, "eventBus", new InMemoryEventBus());
+        ReflectionTestUtils.setField(revocationService, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(revocationService, "expectedTokens", 100_000L);
+        ReflectionTestUtils.setField(revocationService, "falsePositiveRate", 0.01);
+        ReflectionTestUtils.invokeMethod(revocationService, "init");
+
+        UserRepository userRepository = Mockito.mock(UserRepository.class);
+        UserDetailsCache userDetailsCache = new UserDetailsCache();
+        ReflectionTestUtils.setField(userDetailsCache, "userRepository", userRepository);
+        ReflectionTestUtils.setField(userDetailsCache, "eventBus", new InMemoryEventBus());
+        ReflectionTestUtils.setField(userDetailsCache, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(userDetailsCache, "maxSize", 10_000L);
+        ReflectionTestUtils.setField(userDetailsCache, "ttlSeconds", 3_600L);
+        ReflectionTestUtils.invokeMethod(userDetailsCache, "init");
+
+        filter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(filter, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(filter, "userDetailsCache", userDetailsCache);
+        ReflectionTestUtils.setField(filter, "tokenRevocationService", revocationService);
+
+        tokens = new String[COLD_TOKENS];
+        for (int i = 0; i < tokens.length; i++) {
+            User user = new User();
+            user.setId((long) i);
+            user.setEmail("user" + i + "@example.com");
+            user.setName("User " + i);
+            tokens[i] = jwtUtil.generateToken(user);
+            if (i < HOT_TOKENS) {
+                Mockito.when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+                // Steady state: every hot principal is already cached
+                userDetailsCache.get(user.getEmail());
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean legacy() {
+        String token = tokens[nextIndex(HOT_TOKENS)];
+        String email = legacyClaims(token).getSubject();
+        return legacyClaims(token).getSubject().equals(email)
+            && !legacyClaims(token).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public String parseClaimsHot() {
+        return jwtUtil.parseClaims(tokens[nextIndex(HOT_TOKENS)]).getSubject();
+    }
+
+    @Benchmark
+    public String parseClaimsCold() {
+        return jwtUtil.parseClaims(tokens[nextIndex(COLD_TOKENS)]).getSubject();
+    }
+
+    // The legacy helper still used outside the filter: parses twice (subject, then expiry)
+    @Benchmark
+    public Boolean validateToken() {
+        int i = nextIndex(HOT_TOKENS);
+        return jwtUtil.validateToken(tokens[i], "user" + i + "@example.com");
+    }
+
+    @Benchmark
+    public Authentication authenticatedRequest() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/issues");
+        request.addHeader("Authorization", "Bearer " + tokens[nextIndex(HOT_TOKENS)]);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private int nextIndex(int bound) {
+        next = next + 1 < bound ? next + 1 : 0;
+        return next;
+    }
+
+    private static Claims legacyClaims(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parser()
+            .verifyWith(key)
+            .build()
+            .parseSignedClaims(token)
+            .getPayload();
+    }
+}
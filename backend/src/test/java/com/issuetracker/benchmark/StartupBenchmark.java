@@ -0,0 +1,140 @@
+package com.issuetracker.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup time of the packaged application in separate JVMs: the default configuration, the
+ * fast-startup profile, and the fast-startup profile with the AppCDS archive. Each run starts the
+ * real server on a free port and polls {@code /actuator/health} until the first successful
+ * response; the time from launching the JVM to that response is what is measured, i.e. until the
+ * node could take traffic. The process is then stopped. Not JMH, which cannot measure a cold JVM.
+ *
+ * Run by {@code mvn -Pappcds package} after the archive is recorded. Options: jar, archive, runs,
+ * jvm-args (extra JVM options for every run, e.g. "-Xmx512m"), timeout (s per run, default 120).
+ */
+public class StartupBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] pair = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(pair[0], pair.length > 1 ? pair[1] : "true");
+        }
+        String jar = options.get("jar");
+        if (jar == null || !Files.exists(Path.of(jar))) {
+            throw new RuntimeException("Application jar not found: " + jar + " (build with -Pappcds)");
+        }
+        Path archive = options.containsKey("archive") ? Path.of(options.get("archive")) : null;
+        int runs = Math.max(1, Integer.parseInt(options.getOrDefault("runs", "5")));
+        Duration timeout = Duration.ofSeconds(Long.parseLong(options.getOrDefault("timeout", "120")));
+        List<String> jvmArgs = options.containsKey("jvm-args")
+            ? Arrays.asList(options.get("jvm-args").trim().split("\\s+"))
+            : List.of();
+
+        Map<String, List<String>> modes = new LinkedHashMap<>();
+        modes.put("default", List.of());
+        modes.put("fast-startup", List.of("-Dspring.profiles.active=fast-startup"));
+        if (archive != null && Files.exists(archive)) {
+            modes.put("fast-startup+appcds", List.of("-Dspring.profiles.active=fast-startup",
+                "-XX:SharedArchiveFile=" + archive));
+        } else {
+            System.out.println("No AppCDS archive at " + archive + ", skipping that mode");
+        }
+
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        System.out.printf("Startup of %s, %d run(s) per mode after one warm-up run (OS file cache)%n", jar, runs);
+        System.out.println();
+        System.out.printf("%-22s %9s %9s %9s%n", "mode", "min ms", "median ms", "max ms");
+        for (Map.Entry<String, List<String>> mode : modes.entrySet()) {
+            List<String> command = new ArrayList<>();
+            command.add(java);
+            command.addAll(jvmArgs);
+            command.addAll(mode.getValue());
+            command.add("-jar");
+            command.add(jar);
+
+            time(command, timeout);
+            long[] millis = new long[runs];
+            for (int i = 0; i < runs; i++) {
+                millis[i] = time(command, timeout);
+            }
+            Arrays.sort(millis);
+            System.out.printf("%-22s %9d %9d %9d%n", mode.getKey(), millis[0], millis[runs / 2], millis[runs - 1]);
+        }
+    }
+
+    private static long time(List<String> command, Duration timeout) throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> run = new ArrayList<>(command);
+        run.add("--server.port=" + port);
+        URI health = URI.create("http://localhost:" + port + "/actuator/health");
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+        // The application logs to stdout; a file keeps the child from blocking on a full pipe
+        File log = File.createTempFile("startup-benchmark", ".log");
+        log.deleteOnExit();
+
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        Process process = new ProcessBuilder(run).redirectErrorStream(true).redirectOutput(log).start();
+        try {
+            while (true) {
+                if (isHealthy(client, health)) {
+                    return (System.nanoTime() - start) / 1_000_000;
+                }
+                if (!process.isAlive() || System.nanoTime() >= deadline) {
+                    String text = Files.readString(log.toPath(), StandardCharsets.UTF_8);
+                    throw new RuntimeException((process.isAlive() ? "No healthy response within " + timeout.toSeconds() + " s"
+                        : "Startup failed (exit " + process.exitValue() + ")") + " for " + String.join(" ", run)
+                        + "\n" + text.substring(Math.max(0, text.length() - 4000)));
+                }
+                Thread.sleep(10);
+            }
+        } finally {
+            stop(process);
+        }
+    }
+
+    private static boolean isHealthy(HttpClient client, URI health) throws InterruptedException {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(health).timeout(Duration.ofSeconds(1)).GET().build();
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            // Not listening (or not answering) yet
+            return false;
+        }
+    }
+
+    // Graceful shutdown first, so the next run finds the port and the H2 file lock released
+    private static void stop(Process process) throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.issuetracker.config;
+
+import com.issuetracker.dto.UserChangedEvent;
+import com.issuetracker.model.Project;
+import com.issuetracker.model.User;
+import com.issuetracker.repository.ProjectRepository;
+import com.issuetracker.repository.UserRepository;
+import com.issuetracker.service.EntityCacheInvalidator;
+import com.issuetracker.service.EventPublisher;
+import com.issuetracker.service.UserDetailsCache;
+import com.issuetracker.util.QueryCounter;
+import com.issuetracker.util.TestUsers;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Not @Transactional: the second-level cache is only filled and updated on commit, and every
+// repository call below has to run in a session of its own to reach it. The rows are removed again.
+@SpringBootTest
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+class EntityCacheIntegrationTest {
+
+    private static final String EMAIL = "cachetest@example.com";
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    @Qualifier("primaryPool")
+    private DataSource primaryPool;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EventPublisher eventPublisher;
+
+    @Autowired
+    private EntityCacheInvalidator entityCacheInvalidator;
+
+    private Statistics statistics;
+    private User user;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        user = TestUsers.save(userRepository, EMAIL, "Cache Test User");
+        project = new Project();
+        project.setName("Cache Project");
+        project.setOwner(user);
+        project = projectRepository.save(project);
+
+        // Start every test from a cold cache, as after a restart
+        entityManagerFactory.getCache().evictAll();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictNaturalIdData();
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectRepository.deleteById(project.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void findById_Repeated_ServedFromCache() {
+        userRepository.findById(user.getId()).orElseThrow();
+        projectRepository.findById(project.getId()).orElseThrow();
+        long userHits = statistics.getDomainDataRegionStatistics(HibernateCacheConfig.USER_REGION).getHitCount();
+        long projectHits = statistics.getDomainDataRegionStatistics(HibernateCacheConfig.PROJECT_REGION).getHitCount();
+
+        QueryCounter.start();
+        for (int i = 0; i < 3; i++) {
+            assertEquals("Cache Test User", userRepository.findById(user.getId()).orElseThrow().getName());
+            assertEquals("Cache Project", projectRepository.findById(project.getId()).orElseThrow().getName());
+        }
+        QueryCounter.assertAtMost(0);
+
+        assertEquals(userHits + 3,
+            statistics.getDomainDataRegionStatistics(HibernateCacheConfig.USER_REGION).getHitCount());
+        assertEquals(projectHits + 3,
+            statistics.getDomainDataRegionStatistics(HibernateCacheConfig.PROJECT_REGION).getHitCount());
+    }
+
+    @Test
+    void findByEmail_Repeated_ServedFromNaturalIdCache() {
+        userRepository.findByEmail(EMAIL).orElseThrow();
+        long naturalIdHits = statistics.getDomainDataRegionStatistics(HibernateCacheConfig.USER_NATURAL_ID_REGION)
+            .getHitCount();
+
+        QueryCounter.start();
+        for (int i = 0; i < 3; i++) {
+            assertEquals(user.getId(), userRepository.findByEmail(EMAIL).orElseThrow().getId());
+        }
+        QueryCounter.assertAtMost(0);
+
+        assertEquals(naturalIdHits + 3,
+            statistics.getDomainDataRegionStatistics(HibernateCacheConfig.USER_NATURAL_ID_REGION).getHitCount());
+    }
+
+    @Test
+    void update_OnThisNode_RefreshesCachedEntry() {
+        User cached = userRepository.findByEmail(EMAIL).orElseThrow();
+        cached.setName("Renamed On This Node");
+        userRepository.save(cached);
+
+        assertTrue(entityManagerFactory.getCache().contains(User.class, user.getId()));
+        QueryCounter.start();
+        assertEquals("Renamed On This Node", userRepository.findById(user.getId()).orElseThrow().getName());
+        assertEquals("Renamed On This Node", userRepository.findByEmail(EMAIL).orElseThrow().getName());
+        QueryCounter.assertAtMost(0);
+    }
+
+    @Test
+    void userChanged_OnAnotherNode_EvictsUser() {
+        userRepository.findById(user.getId()).orElseThrow();
+        // Another node's write: the database changes, this node's cache does not
+        new JdbcTemplate(primaryPool).update("UPDATE users SET name = ? WHERE id = ?", "Renamed Elsewhere", user.getId());
+        assertEquals("Cache Test User", userRepository.findById(user.getId()).orElseThrow().getName());
+
+        eventPublisher.publish(UserDetailsCache.USER_CHANGED_DESTINATION, null, new UserChangedEvent(EMAIL, user.getId()));
+
+        assertFalse(entityManagerFactory.getCache().contains(User.class, user.getId()));
+        assertEquals("Renamed Elsewhere", userRepository.findById(user.getId()).orElseThrow().getName());
+        assertEquals("Renamed Elsewhere", userRepository.findByEmail(EMAIL).orElseThrow().getName());
+    }
+
+    @Test
+    void projectChanged_OnAnotherNode_EvictsProject() {
+        projectRepository.findById(project.getId()).orElseThrow();
+        new JdbcTemplate(primaryPool).update("UPDATE projects SET name = ? WHERE id = ?", "Renamed Elsewhere", project.getId());
+        assertEquals("Cache Project", projectRepository.findById(project.getId()).orElseThrow().getName());
+
+        entityCacheInvalidator.projectChanged(project.getId());
+
+        assertFalse(entityManagerFactory.getCache().contains(Project.class, project.getId()));
+        assertEquals("Renamed Elsewhere", projectRepository.findById(project.getId()).orElseThrow().getName());
+    }
+}
@@ -0,0 +1,66 @@
+package com.issuetracker.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReadWriteRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dataSource = new ReadWriteRoutingDataSource(
+            new DriverManagerDataSource("jdbc:h2:mem:primary"),
+            new DriverManagerDataSource("jdbc:h2:mem:replica"),
+            meterRegistry);
+        dataSource.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadWriteRoutingDataSource.unpin();
+    }
+
+    @Test
+    void testReadWriteWork_UsesPrimary() {
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, dataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void testReadOnlyTransaction_UsesReplica() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(ReadWriteRoutingDataSource.REPLICA, dataSource.determineCurrentLookupKey());
+        assertEquals(1.0, meterRegistry.get("datasource.routing.connections").tag("target", "replica").counter().count());
+    }
+
+    @Test
+    void testReadOnlyTransaction_PinnedToPrimaryAfterWrite() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReadWriteRoutingDataSource.pinToPrimary();
+
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, dataSource.determineCurrentLookupKey());
+    }
+
+    @Test
+    void testOnPrimary_KeepsExistingPin() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY,
+            ReadWriteRoutingDataSource.onPrimary(dataSource::determineCurrentLookupKey));
+        assertEquals(ReadWriteRoutingDataSource.REPLICA, dataSource.determineCurrentLookupKey());
+
+        ReadWriteRoutingDataSource.pinToPrimary();
+        ReadWriteRoutingDataSource.onPrimary(dataSource::determineCurrentLookupKey);
+        assertEquals(ReadWriteRoutingDataSource.PRIMARY, dataSource.determineCurrentLookupKey());
+    }
+}
@@ -0,0 +1,151 @@
+package com.issuetracker.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.issuetracker.dto.AuthRequest;
+import com.issuetracker.dto.IssueSnapshot;
+import com.issuetracker.model.Issue;
+import com.issuetracker.model.IssuePriority;
+import com.issuetracker.model.IssueStatus;
+import com.issuetracker.model.Project;
+import com.issuetracker.model.User;
+import com.issuetracker.repository.IssueRepository;
+import com.issuetracker.repository.ProjectRepository;
+import com.issuetracker.repository.UserRepository;
+import com.issuetracker.service.IssueSnapshotService;
+import com.issuetracker.service.ProjectService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The replica is a second H2 database with the primary's schema but none of its rows, i.e. a
+// replica that has not caught up yet. Not @Transactional: a test transaction would hold one primary
+// connection for everything and hide the routing, so the data is committed and removed again.
+@SpringBootTest(properties = "datasource.replica.url=" + ReplicaRoutingIntegrationTest.REPLICA_URL)
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+class ReplicaRoutingIntegrationTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:replicatest;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    @Qualifier("primaryPool")
+    private DataSource primaryPool;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private IssueSnapshotService issueSnapshotService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MockMvc mockMvc;
+    private User user;
+    private Project project;
+    private Issue issue;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+
+        JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+        if (replica.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = 'PUBLIC'", Integer.class) == 0) {
+            for (String statement : new JdbcTemplate(primaryPool).queryForList("SCRIPT NODATA", String.class)) {
+                replica.execute(statement);
+            }
+        }
+
+        user = new User();
+        user.setEmail("replicatest@example.com");
+        user.setName("Replica Test User");
+        user.setPassword(passwordEncoder.encode("password123"));
+        user = userRepository.save(user);
+
+        project = new Project();
+        project.setName("Replica Project");
+        project.setOwner(user);
+        project = projectRepository.save(project);
+
+        issue = new Issue();
+        issue.setTitle("Only on the primary");
+        issue.setStatus(IssueStatus.OPEN);
+        issue.setPriority(IssuePriority.HIGH);
+        issue.setProject(project);
+        issue.setCreator(user);
+        issue = issueRepository.save(issue);
+
+        // Otherwise the second-level cache answers lookups by id or email without asking either database
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        issueRepository.delete(issue);
+        projectRepository.delete(project);
+        userRepository.delete(user);
+    }
+
+    @Test
+    void readOnlyServiceCall_UsesReplica() {
+        RuntimeException e = assertThrows(RuntimeException.class, () -> projectService.getProjectById(project.getId()));
+        assertEquals("Project not found", e.getMessage());
+    }
+
+    @Test
+    void getSnapshot_ReadsFromPrimary() {
+        IssueSnapshot snapshot = issueSnapshotService.getSnapshot(issue.getId());
+
+        assertNotNull(snapshot.getIssue());
+        assertEquals("Only on the primary", snapshot.getIssue().getTitle());
+    }
+
+    @Test
+    void login_ReadsUserFromPrimary() throws Exception {
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AuthRequest("replicatest@example.com", "password123"))))
+                .andExpect(status().isOk());
+    }
+}
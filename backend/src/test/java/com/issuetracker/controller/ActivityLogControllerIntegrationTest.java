@@ -14,6 +14,10 @@ import com.issuetracker.repository.ActivityLogRepository;
 import com.issuetracker.repository.IssueRepository;
 import com.issuetracker.repository.ProjectRepository;
 import com.issuetracker.repository.UserRepository;
+import com.issuetracker.util.QueryCounter;
+import com.issuetracker.util.TestUsers;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -59,6 +63,9 @@ class ActivityLogControllerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @PersistenceContext
+    private EntityManager entityManager;
+
     private MockMvc mockMvc;
     private String authToken;
     private User testUser;
@@ -148,4 +155,38 @@ class ActivityLogControllerIntegrationTest {
         mockMvc.perform(get("/api/issues/1/activities"))
                 .andExpect(status().isForbidden());
     }
+
+    @Test
+    void getActivityLogs_QueryCount_IndependentOfUsers() throws Exception {
+        Project project = new Project();
+        project.setName("Counted Activity Project");
+        project.setOwner(testUser);
+        project = projectRepository.save(project);
+
+        Issue issue = new Issue();
+        issue.setTitle("Busy Issue");
+        issue.setProject(project);
+        issue.setCreator(testUser);
+        issue = issueRepository.save(issue);
+
+        for (int i = 0; i < 5; i++) {
+            User user = TestUsers.save(userRepository, "activity" + i + "@example.com", "Activity User " + i);
+
+            ActivityLog log = new ActivityLog();
+            log.setIssue(issue);
+            log.setUser(user);
+            log.setActivityType(ActivityType.STATUS_CHANGED);
+            activityLogRepository.save(log);
+        }
+
+        QueryCounter.start(entityManager);
+
+        mockMvc.perform(get("/api/issues/" + issue.getId() + "/activities")
+                        .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(5));
+
+        // Users are fetched with the logs, not one by one
+        QueryCounter.assertAtMost(1);
+    }
 }
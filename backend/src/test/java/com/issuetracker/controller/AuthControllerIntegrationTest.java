@@ -0,0 +1,194 @@
+package com.issuetracker.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.issuetracker.dto.AuthRequest;
+import com.issuetracker.dto.AuthResponse;
+import com.issuetracker.model.User;
+import com.issuetracker.repository.UserRepository;
+import com.issuetracker.service.PasswordHashingService;
+import com.issuetracker.util.JwtUtil;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+    "auth.bcrypt.strength=4",
+    "auth.password-hashing.pool-size=1",
+    "auth.password-hashing.queue-capacity=1"
+})
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+@Transactional
+class AuthControllerIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${jwt.secret}")
+    private String jwtSecret;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+    }
+
+    @Test
+    void login_HashingExecutorFull_Returns429WithRetryAfter() throws Exception {
+        saveUser("busy@example.com", new BCryptPasswordEncoder(4).encode("password123"));
+
+        // Occupy the single hashing thread and the single queue slot
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils.getField(passwordHashingService, "executor");
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(1);
+        executor.execute(() -> {
+            running.countDown();
+            await(release);
+        });
+        executor.execute(() -> await(release));
+        try {
+            running.await();
+
+            mockMvc.perform(post("/api/auth/login")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new AuthRequest("busy@example.com", "password123"))))
+                    .andExpect(status().isTooManyRequests())
+                    .andExpect(header().exists("Retry-After"));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void login_LowerCostHash_IsRehashedWithConfiguredCost() throws Exception {
+        saveUser("upgrade@example.com", new BCryptPasswordEncoder(5).encode("password123"));
+
+        login("upgrade@example.com");
+
+        String stored = userRepository.findByEmail("upgrade@example.com").orElseThrow().getPassword();
+        assertTrue(stored.startsWith("$2a$04$"), stored);
+        assertTrue(new BCryptPasswordEncoder().matches("password123", stored));
+    }
+
+    @Test
+    void login_HigherCostHash_IsRehashedWithConfiguredCost() throws Exception {
+        saveUser("downgrade@example.com", new BCryptPasswordEncoder(6).encode("password123"));
+
+        login("downgrade@example.com");
+
+        String stored = userRepository.findByEmail("downgrade@example.com").orElseThrow().getPassword();
+        assertTrue(stored.startsWith("$2a$04$"), stored);
+    }
+
+    @Test
+    void login_ConfiguredCostHash_IsKept() throws Exception {
+        String hash = new BCryptPasswordEncoder(4).encode("password123");
+        saveUser("current@example.com", hash);
+
+        login("current@example.com");
+
+        assertEquals(hash, userRepository.findByEmail("current@example.com").orElseThrow().getPassword());
+    }
+
+    @Test
+    void logout_TokenRejectedAfterwards() throws Exception {
+        User user = saveUser("logout@example.com", new BCryptPasswordEncoder(4).encode("password123"));
+        String token = login(user.getEmail());
+
+        mockMvc.perform(get("/api/projects").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/auth/logout").header("Authorization", "Bearer " + token))
+                .andExpect(status().isNoContent());
+
+        // Spring Security returns 403 Forbidden for unauthenticated requests
+        mockMvc.perform(get("/api/projects").header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void logout_TokenWithoutJti_RevokedByDigest() throws Exception {
+        User user = saveUser("legacy@example.com", new BCryptPasswordEncoder(4).encode("password123"));
+        // Issued before tokens carried a jti claim
+        String token = Jwts.builder()
+                .subject(user.getEmail())
+                .claim(JwtUtil.USER_ID_CLAIM, user.getId())
+                .claim(JwtUtil.NAME_CLAIM, user.getName())
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        mockMvc.perform(get("/api/projects").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/auth/logout").header("Authorization", "Bearer " + token))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/projects").header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+
+    private User saveUser(String email, String passwordHash) {
+        User user = new User();
+        user.setEmail(email);
+        user.setName("Auth Test User");
+        user.setPassword(passwordHash);
+        return userRepository.save(user);
+    }
+
+    private String login(String email) throws Exception {
+        String response = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AuthRequest(email, "password123"))))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readValue(response, AuthResponse.class).getToken();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.issuetracker.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.issuetracker.dto.AuthRequest;
+import com.issuetracker.dto.AuthResponse;
+import com.issuetracker.dto.CreateCommentRequest;
+import com.issuetracker.model.Comment;
+import com.issuetracker.model.Issue;
+import com.issuetracker.model.Project;
+import com.issuetracker.model.User;
+import com.issuetracker.repository.CommentRepository;
+import com.issuetracker.repository.IssueRepository;
+import com.issuetracker.repository.ProjectRepository;
+import com.issuetracker.repository.UserRepository;
+import com.issuetracker.util.QueryCounter;
+import com.issuetracker.util.TestUsers;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+@Transactional
+class CommentControllerIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private MockMvc mockMvc;
+    private String authToken;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+
+        testUser = new User();
+        testUser.setEmail("commenttest@example.com");
+        testUser.setName("Comment Test User");
+        testUser.setPassword(passwordEncoder.encode("password123"));
+        testUser = userRepository.save(testUser);
+
+        AuthRequest loginRequest = new AuthRequest("commenttest@example.com", "password123");
+        String loginResponse = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        AuthResponse authResponse = objectMapper.readValue(loginResponse, AuthResponse.class);
+        authToken = authResponse.getToken();
+    }
+
+    @Test
+    void getComments_QueryCount_IndependentOfAuthors() throws Exception {
+        Issue issue = createIssue();
+        for (int i = 0; i < 5; i++) {
+            Comment comment = new Comment();
+            comment.setContent("Comment " + i);
+            comment.setIssue(issue);
+            comment.setAuthor(TestUsers.save(userRepository, "author" + i + "@example.com", "Author " + i));
+            commentRepository.save(comment);
+        }
+        QueryCounter.start(entityManager);
+
+        mockMvc.perform(get("/api/issues/" + issue.getId() + "/comments")
+                        .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(5));
+
+        // The issue, then the comments with their authors
+        QueryCounter.assertAtMost(2);
+    }
+
+    @Test
+    void createComment_QueryCount() throws Exception {
+        Issue issue = createIssue();
+        QueryCounter.start(entityManager);
+
+        mockMvc.perform(post("/api/issues/" + issue.getId() + "/comments")
+                        .header("Authorization", "Bearer " + authToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateCommentRequest("Looks good"))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.authorName").value("Comment Test User"));
+
+        // Issue lookup and insert, plus the activity log written in its own transaction
+        QueryCounter.assertAtMost(5);
+    }
+
+    @Test
+    void getComments_Unauthenticated_ReturnsForbidden() throws Exception {
+        mockMvc.perform(get("/api/issues/1/comments"))
+                .andExpect(status().isForbidden());
+    }
+
+    private Issue createIssue() {
+        Project project = new Project();
+        project.setName("Comment Project");
+        project.setOwner(testUser);
+        project = projectRepository.save(project);
+
+        Issue issue = new Issue();
+        issue.setTitle("Commented Issue");
+        issue.setProject(project);
+        issue.setCreator(testUser);
+        return issueRepository.save(issue);
+    }
+}
@@ -0,0 +1,191 @@
+package com.issuetracker.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.issuetracker.dto.AuthRequest;
+import com.issuetracker.dto.AuthResponse;
+import com.issuetracker.dto.StreamTokenResponse;
+import com.issuetracker.model.User;
+import com.issuetracker.repository.UserRepository;
+import com.issuetracker.service.EventStreamService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "events.sse.replay-buffer-size=3")
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+@Transactional
+class EventStreamControllerIntegrationTest {
+
+    // The service outlives each test; every test publishes above everything published before
+    private static final AtomicLong nextId = new AtomicLong(1_000_000);
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EventStreamService eventStreamService;
+
+    private MockMvc mockMvc;
+    private String authToken;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+
+        User user = new User();
+        user.setEmail("ssetest@example.com");
+        user.setName("SSE Test User");
+        user.setPassword(passwordEncoder.encode("password123"));
+        userRepository.save(user);
+
+        AuthRequest loginRequest = new AuthRequest("ssetest@example.com", "password123");
+        String loginResponse = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        authToken = objectMapper.readValue(loginResponse, AuthResponse.class).getToken();
+    }
+
+    @Test
+    void resume_ReplaysEventsAfterLastEventId() throws Exception {
+        long first = publish(3);
+
+        MvcResult result = mockMvc.perform(get("/api/events")
+                        .header("Last-Event-ID", String.valueOf(first))
+                        .header("Authorization", "Bearer " + authToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String content = awaitContent(result, "\"n\":" + (first + 2));
+        assertFalse(content.contains("id:" + first + "\n"), "already seen event replayed");
+        assertTrue(content.indexOf("id:" + (first + 1)) < content.indexOf("id:" + (first + 2)));
+        assertFalse(content.contains("event:reset"));
+
+        // Live events follow the replay on the same stream
+        long live = publish(1);
+        awaitContent(result, "\"n\":" + live);
+    }
+
+    @Test
+    void resume_OlderThanBuffer_SendsReset() throws Exception {
+        long first = publish(5);
+
+        MvcResult result = mockMvc.perform(get("/api/events")
+                        .param("lastEventId", String.valueOf(first))
+                        .header("Authorization", "Bearer " + authToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Buffer holds the last 3: first + 2 .. first + 4, so first + 1 is lost
+        String content = awaitContent(result, "\"n\":" + (first + 4));
+        assertTrue(content.contains("event:reset"));
+        assertTrue(content.indexOf("event:reset") < content.indexOf("id:" + (first + 2)));
+    }
+
+    @Test
+    void resume_AcrossIdsNotForClients_NoReset() throws Exception {
+        long first = publish(2);
+        // A bus event that is not for SSE clients takes the next id
+        nextId.getAndIncrement();
+        long next = publish(3);
+
+        // Buffer holds next .. next + 2: the client saw first + 1, the last event evicted
+        MvcResult result = mockMvc.perform(get("/api/events")
+                        .header("Last-Event-ID", String.valueOf(first + 1))
+                        .header("Authorization", "Bearer " + authToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String content = awaitContent(result, "\"n\":" + (next + 2));
+        assertTrue(content.contains("id:" + next + "\n"));
+        assertFalse(content.contains("event:reset"));
+    }
+
+    @Test
+    void streamToken_OpensStream() throws Exception {
+        String response = mockMvc.perform(post("/api/events/token")
+                        .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        String streamToken = objectMapper.readValue(response, StreamTokenResponse.class).getToken();
+
+        mockMvc.perform(get("/api/events").param("token", streamToken))
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    void streamToken_NotAcceptedAsBearerToken() throws Exception {
+        String response = mockMvc.perform(post("/api/events/token")
+                        .header("Authorization", "Bearer " + authToken))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        String streamToken = objectMapper.readValue(response, StreamTokenResponse.class).getToken();
+
+        mockMvc.perform(get("/api/projects")
+                        .header("Authorization", "Bearer " + streamToken))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void loginToken_NotAcceptedAsQueryToken() throws Exception {
+        mockMvc.perform(get("/api/events").param("token", authToken))
+                .andExpect(status().isForbidden());
+    }
+
+    // Publishes count events with consecutive ids and returns the first id
+    private long publish(int count) {
+        long first = nextId.getAndAdd(count);
+        for (int i = 0; i < count; i++) {
+            eventStreamService.publish(first + i, "/topic/issues", null, Map.of("n", first + i));
+        }
+        return first;
+    }
+
+    private static String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String content = result.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = result.getResponse().getContentAsString();
+        }
+        assertTrue(content.contains(expected), "expected " + expected + " in:\n" + content);
+        return content;
+    }
+}
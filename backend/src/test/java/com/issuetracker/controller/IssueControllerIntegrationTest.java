@@ -0,0 +1,175 @@
+package com.issuetracker.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.issuetracker.dto.AuthRequest;
+import com.issuetracker.dto.AuthResponse;
+import com.issuetracker.model.Issue;
+import com.issuetracker.model.IssueStatus;
+import com.issuetracker.model.Project;
+import com.issuetracker.model.User;
+import com.issuetracker.repository.IssueRepository;
+import com.issuetracker.repository.ProjectRepository;
+import com.issuetracker.repository.UserRepository;
+import com.issuetracker.util.QueryCounter;
+import com.issuetracker.util.TestUsers;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+@Transactional
+class IssueControllerIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private MockMvc mockMvc;
+    private String authToken;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+
+        testUser = new User();
+        testUser.setEmail("issuetest@example.com");
+        testUser.setName("Issue Test User");
+        testUser.setPassword(passwordEncoder.encode("password123"));
+        testUser = userRepository.save(testUser);
+
+        AuthRequest loginRequest = new AuthRequest("issuetest@example.com", "password123");
+        String loginResponse = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        AuthResponse authResponse = objectMapper.readValue(loginResponse, AuthResponse.class);
+        authToken = authResponse.getToken();
+    }
+
+    @Test
+    void getIssues_ReturnsPageWithNames() throws Exception {
+        List<Issue> issues = createIssues(3);
+
+        mockMvc.perform(get("/api/issues")
+                        .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(3))
+                .andExpect(jsonPath("$.content[?(@.id == " + issues.get(0).getId() + ")].creatorName").value("Creator 0"))
+                .andExpect(jsonPath("$.content[?(@.id == " + issues.get(0).getId() + ")].assigneeName").value("Assignee 0"));
+    }
+
+    @Test
+    void getIssues_QueryCount_IndependentOfPageContent() throws Exception {
+        createIssues(6);
+        QueryCounter.start(entityManager);
+
+        mockMvc.perform(get("/api/issues")
+                        .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(6));
+
+        // Project, creator and assignee come with the page (plus a count query when the page is full)
+        QueryCounter.assertAtMost(2);
+    }
+
+    @Test
+    void getIssues_Filtered_QueryCount() throws Exception {
+        List<Issue> issues = createIssues(6);
+        QueryCounter.start(entityManager);
+
+        mockMvc.perform(get("/api/issues")
+                        .param("status", "OPEN")
+                        .param("projectId", String.valueOf(issues.get(0).getProject().getId()))
+                        .param("size", "2")
+                        .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2));
+
+        QueryCounter.assertAtMost(2);
+    }
+
+    @Test
+    void getIssueById_QueryCount() throws Exception {
+        Issue issue = createIssues(1).get(0);
+        QueryCounter.start(entityManager);
+
+        mockMvc.perform(get("/api/issues/" + issue.getId())
+                        .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.projectName").value("Counted Project"))
+                .andExpect(jsonPath("$.assigneeName").value("Assignee 0"));
+
+        QueryCounter.assertAtMost(1);
+    }
+
+    @Test
+    void getIssues_Unauthenticated_ReturnsForbidden() throws Exception {
+        mockMvc.perform(get("/api/issues"))
+                .andExpect(status().isForbidden());
+    }
+
+    // One project, every issue with its own creator and assignee so lazy loading would show up per row
+    private List<Issue> createIssues(int count) {
+        Project project = new Project();
+        project.setName("Counted Project");
+        project.setOwner(testUser);
+        project = projectRepository.save(project);
+
+        List<Issue> issues = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Issue issue = new Issue();
+            issue.setTitle("Counted Issue " + i);
+            issue.setStatus(IssueStatus.OPEN);
+            issue.setProject(project);
+            issue.setCreator(TestUsers.save(userRepository, "creator" + i + "@example.com", "Creator " + i));
+            issue.setAssignee(TestUsers.save(userRepository, "assignee" + i + "@example.com", "Assignee " + i));
+            issues.add(issueRepository.save(issue));
+        }
+        return issues;
+    }
+}
@@ -8,6 +8,10 @@ import com.issuetracker.model.Project;
 import com.issuetracker.model.User;
 import com.issuetracker.repository.ProjectRepository;
 import com.issuetracker.repository.UserRepository;
+import com.issuetracker.util.QueryCounter;
+import com.issuetracker.util.TestUsers;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,6 +25,8 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.time.LocalDateTime;
+
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -46,6 +52,9 @@ class ProjectControllerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
     
+    @PersistenceContext
+    private EntityManager entityManager;
+    
     private MockMvc mockMvc;
     private String authToken;
     private User testUser;
@@ -115,6 +124,87 @@ class ProjectControllerIntegrationTest {
             .andExpect(jsonPath("$").isArray());
     }
     
+    @Test
+    void testGetProjects_PagedWithCursor() throws Exception {
+        for (String name : new String[] {"Paged Project C", "Paged Project A", "Paged Project B"}) {
+            Project project = new Project();
+            project.setName(name);
+            project.setOwner(testUser);
+            projectRepository.save(project);
+        }
+        
+        String firstPage = mockMvc.perform(get("/api/projects")
+                .param("searchText", "paged project")
+                .param("sortBy", "name")
+                .param("size", "2")
+                .header("Authorization", "Bearer " + authToken))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(2))
+            .andExpect(jsonPath("$.content[0].name").value("Paged Project A"))
+            .andExpect(jsonPath("$.content[0].ownerName").value(testUser.getName()))
+            .andExpect(jsonPath("$.totalElements").value(3))
+            .andExpect(jsonPath("$.last").value(false))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        
+        String cursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+        
+        mockMvc.perform(get("/api/projects")
+                .param("searchText", "paged project")
+                .param("sortBy", "name")
+                .param("size", "2")
+                .param("cursor", cursor)
+                .header("Authorization", "Bearer " + authToken))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(1))
+            .andExpect(jsonPath("$.content[0].name").value("Paged Project C"))
+            .andExpect(jsonPath("$.last").value(true));
+    }
+    
+    @Test
+    void testGetProjects_UpdatedAtTiesNewestCreatedFirstAcrossPages() throws Exception {
+        LocalDateTime updated = LocalDateTime.of(2024, 5, 1, 12, 0);
+        String[] names = {"Tie Project Old", "Tie Project Middle", "Tie Project New"};
+        for (int i = 0; i < names.length; i++) {
+            Project project = new Project();
+            project.setName(names[i]);
+            project.setOwner(testUser);
+            project = projectRepository.saveAndFlush(project);
+            entityManager.createQuery("UPDATE Project p SET p.updatedAt = :updated, p.createdAt = :created WHERE p.id = :id")
+                .setParameter("updated", updated)
+                .setParameter("created", updated.minusDays(names.length - i))
+                .setParameter("id", project.getId())
+                .executeUpdate();
+        }
+        entityManager.clear();
+        
+        String firstPage = mockMvc.perform(get("/api/projects")
+                .param("searchText", "tie project")
+                .param("sortBy", "updatedAt")
+                .param("sortDir", "desc")
+                .param("size", "2")
+                .header("Authorization", "Bearer " + authToken))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].name").value("Tie Project New"))
+            .andExpect(jsonPath("$.content[1].name").value("Tie Project Middle"))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        
+        mockMvc.perform(get("/api/projects")
+                .param("searchText", "tie project")
+                .param("sortBy", "updatedAt")
+                .param("sortDir", "desc")
+                .param("size", "2")
+                .param("cursor", objectMapper.readTree(firstPage).get("nextCursor").asText())
+                .header("Authorization", "Bearer " + authToken))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(1))
+            .andExpect(jsonPath("$.content[0].name").value("Tie Project Old"))
+            .andExpect(jsonPath("$.last").value(true));
+    }
+    
     @Test
     void testGetProjectById() throws Exception {
         // Create a project
@@ -129,4 +219,59 @@ class ProjectControllerIntegrationTest {
             .andExpect(jsonPath("$.id").value(project.getId()))
             .andExpect(jsonPath("$.name").value("Test Project"));
     }
+    
+    @Test
+    void testGetAllProjects_QueryCount() throws Exception {
+        createProjectsWithDistinctOwners(5);
+        QueryCounter.start(entityManager);
+        
+        mockMvc.perform(get("/api/projects")
+                .header("Authorization", "Bearer " + authToken))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(5));
+        
+        // One query with owner and stats joined, however many projects
+        QueryCounter.assertAtMost(1);
+    }
+    
+    @Test
+    void testGetProjectsPage_QueryCount() throws Exception {
+        createProjectsWithDistinctOwners(5);
+        QueryCounter.start(entityManager);
+        
+        mockMvc.perform(get("/api/projects")
+                .param("size", "3")
+                .header("Authorization", "Bearer " + authToken))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(3));
+        
+        // Page + count
+        QueryCounter.assertAtMost(2);
+    }
+    
+    @Test
+    void testGetProjectById_QueryCount() throws Exception {
+        Long projectId = createProjectsWithDistinctOwners(1).getId();
+        QueryCounter.start(entityManager);
+        
+        mockMvc.perform(get("/api/projects/" + projectId)
+                .header("Authorization", "Bearer " + authToken))
+            .andExpect(status().isOk());
+        
+        // One query with owner and stats joined, like the list
+        QueryCounter.assertAtMost(1);
+    }
+    
+    private Project createProjectsWithDistinctOwners(int count) {
+        Project project = null;
+        for (int i = 0; i < count; i++) {
+            User owner = TestUsers.save(userRepository, "owner" + i + "@example.com", "Owner " + i);
+            
+            project = new Project();
+            project.setName("Counted Project " + i);
+            project.setOwner(owner);
+            project = projectRepository.save(project);
+        }
+        return project;
+    }
 }
@@ -0,0 +1,187 @@
+package com.issuetracker.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.issuetracker.dto.AuthRequest;
+import com.issuetracker.dto.AuthResponse;
+import com.issuetracker.model.Issue;
+import com.issuetracker.model.IssuePriority;
+import com.issuetracker.model.IssueStatus;
+import com.issuetracker.model.Project;
+import com.issuetracker.model.User;
+import com.issuetracker.repository.IssueRepository;
+import com.issuetracker.repository.ProjectRepository;
+import com.issuetracker.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Not @Transactional: R2DBC uses its own connections and only sees committed rows, so the test
+// data is committed and removed again after each test
+@SpringBootTest
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+class ReactiveIssueControllerIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MockMvc mockMvc;
+    private String authToken;
+    private User testUser;
+    private Project project;
+    private final List<Issue> issues = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+
+        testUser = new User();
+        testUser.setEmail("reactivetest@example.com");
+        testUser.setName("Reactive Test User");
+        testUser.setPassword(passwordEncoder.encode("password123"));
+        testUser = userRepository.save(testUser);
+
+        project = new Project();
+        project.setName("Reactive Project");
+        project.setOwner(testUser);
+        project = projectRepository.save(project);
+
+        issues.add(issue("Login fails", IssueStatus.OPEN, IssuePriority.HIGH));
+        issues.add(issue("Search is slow", IssueStatus.OPEN, IssuePriority.LOW));
+        issues.add(issue("Export broken", IssueStatus.CLOSED, IssuePriority.HIGH));
+
+        AuthRequest loginRequest = new AuthRequest("reactivetest@example.com", "password123");
+        String loginResponse = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequest)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        AuthResponse authResponse = objectMapper.readValue(loginResponse, AuthResponse.class);
+        authToken = authResponse.getToken();
+    }
+
+    @AfterEach
+    void tearDown() {
+        issueRepository.deleteAll(issues);
+        issues.clear();
+        projectRepository.delete(project);
+        userRepository.delete(testUser);
+    }
+
+    @Test
+    void getIssues_SameFiltersAndOrderAsJpaEndpoint() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/reactive/issues")
+                        .param("projectId", String.valueOf(project.getId()))
+                        .param("status", "OPEN")
+                        .param("sortBy", "priority")
+                        .param("sortDir", "asc")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "Bearer " + authToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Enum names sort alphabetically, as with JPA: HIGH before LOW
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].title").value("Login fails"))
+                .andExpect(jsonPath("$[0].projectName").value("Reactive Project"))
+                .andExpect(jsonPath("$[0].creatorName").value("Reactive Test User"))
+                .andExpect(jsonPath("$[1].title").value("Search is slow"));
+    }
+
+    @Test
+    void getIssues_SearchTextIsCaseInsensitive() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/reactive/issues")
+                        .param("projectId", String.valueOf(project.getId()))
+                        .param("searchText", "EXPORT")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "Bearer " + authToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].status").value("CLOSED"));
+    }
+
+    @Test
+    void getIssueById_Found() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/reactive/issues/" + issues.get(0).getId())
+                        .header("Authorization", "Bearer " + authToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Login fails"))
+                .andExpect(jsonPath("$.priority").value("HIGH"));
+    }
+
+    @Test
+    void getIssueById_Missing_ReturnsNotFound() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/reactive/issues/999999")
+                        .header("Authorization", "Bearer " + authToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Issue not found"));
+    }
+
+    @Test
+    void getIssues_Unauthenticated_ReturnsForbidden() throws Exception {
+        mockMvc.perform(get("/api/reactive/issues"))
+                .andExpect(status().isForbidden());
+    }
+
+    private Issue issue(String title, IssueStatus status, IssuePriority priority) {
+        Issue issue = new Issue();
+        issue.setTitle(title);
+        issue.setStatus(status);
+        issue.setPriority(priority);
+        issue.setProject(project);
+        issue.setCreator(testUser);
+        return issueRepository.save(issue);
+    }
+}
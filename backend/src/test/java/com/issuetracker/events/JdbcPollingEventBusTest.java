@@ -0,0 +1,139 @@
+package com.issuetracker.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.issuetracker.dto.TokenRevokedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives flush and poll directly instead of through the scheduler, with two bus instances playing
+ * two nodes that share one cluster_events table.
+ */
+class JdbcPollingEventBusTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcPollingEventBus nodeA;
+    private JdbcPollingEventBus nodeB;
+    private final List<ClusterEvent> receivedByA = new ArrayList<>();
+    private final List<ClusterEvent> receivedByB = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:eventbus;DB_CLOSE_DELAY=-1"));
+        jdbcTemplate.execute("CREATE TABLE cluster_events (" +
+            "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, " +
+            "event_id VARCHAR(36) NOT NULL, origin_node VARCHAR(64) NOT NULL, destination VARCHAR(255) NOT NULL, " +
+            "project_id BIGINT, payload_type VARCHAR(255) NOT NULL, payload TEXT NOT NULL, created_at TIMESTAMP NOT NULL)");
+
+        nodeA = newBus(receivedByA);
+        nodeB = newBus(receivedByB);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE cluster_events");
+    }
+
+    @Test
+    void testPublish_DeliveredOnEveryNodeWithSameSequence() {
+        nodeA.publish(new ClusterEvent("/topic/tokens", 7L, new TokenRevokedEvent("jti-1")));
+        flush(nodeA);
+
+        poll(nodeA);
+        poll(nodeB);
+
+        assertEquals(1, receivedByA.size());
+        assertEquals(1, receivedByB.size());
+        ClusterEvent received = receivedByB.get(0);
+        assertEquals(receivedByA.get(0).getEventId(), received.getEventId());
+        assertEquals(receivedByA.get(0).getSequence(), received.getSequence());
+        assertEquals("/topic/tokens", received.getDestination());
+        assertEquals(7L, received.getProjectId());
+        assertEquals("jti-1", ((TokenRevokedEvent) received.getPayload()).getJti());
+    }
+
+    @Test
+    void testPoll_HoldsRowsAboveGapUntilFilled() {
+        insertRow(1, UUID.randomUUID().toString());
+        // Row 2 belongs to a transaction that has not committed yet
+        insertRow(3, UUID.randomUUID().toString());
+
+        poll(nodeA);
+        assertEquals(List.of(1L), sequences(receivedByA));
+
+        insertRow(2, UUID.randomUUID().toString());
+        poll(nodeA);
+        assertEquals(List.of(1L, 2L, 3L), sequences(receivedByA));
+    }
+
+    @Test
+    void testPoll_ReleasesHeldRowsAfterGapTimeout() throws Exception {
+        ReflectionTestUtils.setField(nodeA, "gapTimeoutMs", 50L);
+        insertRow(1, UUID.randomUUID().toString());
+        insertRow(3, UUID.randomUUID().toString());
+
+        poll(nodeA);
+        assertEquals(List.of(1L), sequences(receivedByA));
+
+        Thread.sleep(100);
+        poll(nodeA);
+        assertEquals(List.of(1L, 3L), sequences(receivedByA));
+
+        // The missing row showing up after the deadline is not delivered out of order
+        insertRow(2, UUID.randomUUID().toString());
+        poll(nodeA);
+        assertEquals(List.of(1L, 3L), sequences(receivedByA));
+    }
+
+    @Test
+    void testPoll_DeliversEventIdOnce() {
+        String eventId = UUID.randomUUID().toString();
+        insertRow(1, eventId);
+        insertRow(2, eventId);
+
+        poll(nodeA);
+
+        assertEquals(List.of(1L), sequences(receivedByA));
+    }
+
+    private JdbcPollingEventBus newBus(List<ClusterEvent> received) {
+        JdbcPollingEventBus bus = new JdbcPollingEventBus();
+        ReflectionTestUtils.setField(bus, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(bus, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(bus, "batchSize", 500);
+        ReflectionTestUtils.setField(bus, "gapTimeoutMs", 5000L);
+        bus.subscribe(received::add);
+        return bus;
+    }
+
+    private void insertRow(long id, String eventId) {
+        jdbcTemplate.update("INSERT INTO cluster_events (id, event_id, origin_node, destination, project_id, " +
+                "payload_type, payload, created_at) VALUES (?, ?, 'test', '/topic/tokens', NULL, ?, ?, ?)",
+            id, eventId, TokenRevokedEvent.class.getName(), "{\"jti\":\"jti-" + id + "\"}",
+            Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    private static void flush(JdbcPollingEventBus bus) {
+        ReflectionTestUtils.invokeMethod(bus, "flush");
+    }
+
+    private static void poll(JdbcPollingEventBus bus) {
+        ReflectionTestUtils.invokeMethod(bus, "poll");
+    }
+
+    private static List<Long> sequences(List<ClusterEvent> events) {
+        return events.stream().map(ClusterEvent::getSequence).toList();
+    }
+}
@@ -0,0 +1,156 @@
+package com.issuetracker.filter;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.issuetracker.dto.UserChangedEvent;
+import com.issuetracker.events.EventBus;
+import com.issuetracker.events.InMemoryEventBus;
+import com.issuetracker.model.User;
+import com.issuetracker.repository.RevokedTokenRepository;
+import com.issuetracker.repository.UserRepository;
+import com.issuetracker.security.AuthenticatedUser;
+import com.issuetracker.service.EventPublisher;
+import com.issuetracker.service.TokenRevocationService;
+import com.issuetracker.service.UserDetailsCache;
+import com.issuetracker.util.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Two filters, each with its own principal cache, sharing one bus and one (mocked) users table
+ * stand in for two nodes. The caches run on a test clock.
+ */
+class JwtAuthenticationFilterTest {
+
+    private static final String EMAIL = "alice@example.com";
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = nanos::get;
+
+    private UserRepository userRepository;
+    private EventPublisher eventPublisher;
+    private JwtAuthenticationFilter nodeA;
+    private JwtAuthenticationFilter nodeB;
+    private User user;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", "mySecretKeyForJWTTokenGenerationThatShouldBeAtLeast256BitsLong");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 3_600_000L);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheSize", 100L);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+
+        EventBus bus = new InMemoryEventBus();
+        // Publishing outside a transaction goes straight to the bus
+        eventPublisher = new EventPublisher();
+        ReflectionTestUtils.setField(eventPublisher, "eventBus", bus);
+
+        RevokedTokenRepository revokedTokenRepository = mock(RevokedTokenRepository.class);
+        when(revokedTokenRepository.findActiveJtis(any())).thenReturn(List.of());
+        TokenRevocationService revocationService = new TokenRevocationService();
+        ReflectionTestUtils.setField(revocationService, "revokedTokenRepository", revokedTokenRepository);
+        ReflectionTestUtils.setField(revocationService, "eventPublisher", eventPublisher);
+        ReflectionTestUtils.setField(revocationService, "eventBus", bus);
+        ReflectionTestUtils.setField(revocationService, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(revocationService, "expectedTokens", 1_000L);
+        ReflectionTestUtils.setField(revocationService, "falsePositiveRate", 0.01);
+        ReflectionTestUtils.invokeMethod(revocationService, "init");
+
+        user = new User();
+        user.setId(1L);
+        user.setEmail(EMAIL);
+        user.setName("Alice");
+        userRepository = mock(UserRepository.class);
+        when(userRepository.findByEmail(EMAIL)).thenAnswer(invocation -> Optional.ofNullable(user));
+        token = jwtUtil.generateToken(user);
+
+        nodeA = newNode(jwtUtil, revocationService, bus);
+        nodeB = newNode(jwtUtil, revocationService, bus);
+    }
+
+    @Test
+    void testLoadPrincipal_CachedAfterFirstLookup() {
+        AuthenticatedUser first = (AuthenticatedUser) nodeA.loadPrincipal(token);
+        AuthenticatedUser second = (AuthenticatedUser) nodeA.loadPrincipal(token);
+
+        assertEquals(1L, first.getId());
+        assertEquals("Alice", first.getName());
+        assertSame(first, second);
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void testLoadPrincipal_ReloadedAfterTtl() {
+        nodeA.loadPrincipal(token);
+        user.setName("Alice Cooper");
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(299));
+        assertEquals("Alice", nameOf(nodeA.loadPrincipal(token)));
+
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        assertEquals("Alice Cooper", nameOf(nodeA.loadPrincipal(token)));
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void testUserChanged_InvalidatesEveryNodeOverBus() {
+        nodeA.loadPrincipal(token);
+        nodeB.loadPrincipal(token);
+        user.setName("Alice Cooper");
+
+        eventPublisher.publish(UserDetailsCache.USER_CHANGED_DESTINATION, null, new UserChangedEvent(EMAIL, 1L));
+
+        assertEquals("Alice Cooper", nameOf(nodeA.loadPrincipal(token)));
+        assertEquals("Alice Cooper", nameOf(nodeB.loadPrincipal(token)));
+    }
+
+    @Test
+    void testDeletedUser_RejectedOnceInvalidated() {
+        assertNotNull(nodeB.loadPrincipal(token));
+        user = null;
+
+        eventPublisher.publish(UserDetailsCache.USER_CHANGED_DESTINATION, null, new UserChangedEvent(EMAIL, 1L));
+
+        assertNull(nodeB.loadPrincipal(token));
+    }
+
+    @Test
+    void testTokenForReplacedAccount_Rejected() {
+        // Same email signed up again after the account the token was issued to was deleted
+        user.setId(2L);
+
+        assertNull(nodeA.loadPrincipal(token));
+    }
+
+    private JwtAuthenticationFilter newNode(JwtUtil jwtUtil, TokenRevocationService revocationService, EventBus bus) {
+        UserDetailsCache cache = new UserDetailsCache();
+        ReflectionTestUtils.setField(cache, "userRepository", userRepository);
+        ReflectionTestUtils.setField(cache, "eventBus", bus);
+        ReflectionTestUtils.setField(cache, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(cache, "maxSize", 100L);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 300L);
+        ReflectionTestUtils.setField(cache, "ticker", ticker);
+        ReflectionTestUtils.invokeMethod(cache, "init");
+
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(filter, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(filter, "userDetailsCache", cache);
+        ReflectionTestUtils.setField(filter, "tokenRevocationService", revocationService);
+        return filter;
+    }
+
+    private static String nameOf(Object principal) {
+        return ((AuthenticatedUser) principal).getName();
+    }
+}
@@ -0,0 +1,302 @@
+package com.issuetracker.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mixed-workload load test against a running backend. Virtual users sign up (or log in), then
+ * repeatedly browse {@code GET /api/issues} with random filters, open issue details and post
+ * comments, while STOMP subscribers listen on the commented issues. Prints throughput and latency
+ * percentiles per operation, including event delivery.
+ *
+ * Run with {@code mvn -Ploadtest test-compile exec:exec -Dloadtest.args="--users=50 --duration=120"}
+ * against a backend on localhost (the default H2 setup is fine; seed it first for realistic data).
+ * Options: base-url, origin, users, password, duration (s), think-time-ms, subscribers, hot-issues,
+ * browse-weight, detail-weight, comment-weight, label, results (CSV file the summary rows are
+ * appended to, tagged with label, to compare runs against differently configured backends).
+ *
+ * The browse, detail and comment latencies are corrected for coordinated omission with the mean
+ * think time as the expected interval between a user's requests (see {@link OperationStats}); with
+ * {@code --think-time-ms=0} they are recorded as measured.
+ */
+public class LoadTest {
+
+    private static final String[] STATUSES = {"OPEN", "IN_PROGRESS", "CLOSED"};
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH", "CRITICAL"};
+    private static final String[] SORTS = {"createdAt", "updatedAt", "priority", "status"};
+    private static final String[] SEARCHES = {"Login", "Search", "slow", "deploy", "Export"};
+
+    private final Map<String, String> options;
+    private final String baseUrl;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+
+    private final Map<String, OperationStats> stats = new LinkedHashMap<>();
+    private final List<Long> issueIds = new ArrayList<>();
+    private final List<Long> projectIds = new ArrayList<>();
+    private final List<Long> hotIssueIds = new ArrayList<>();
+    private long expectedIntervalNanos;
+
+    LoadTest(Map<String, String> options) {
+        this.options = options;
+        this.baseUrl = option("base-url", "http://localhost:8080");
+        for (String name : List.of("login", "browse", "detail", "comment", "ws-connect", "event-delivery")) {
+            stats.put(name, new OperationStats(name));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] pair = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(pair[0], pair.length > 1 ? pair[1] : "true");
+        }
+        new LoadTest(options).run();
+    }
+
+    void run() throws Exception {
+        int users = intOption("users", 20);
+        int durationSeconds = intOption("duration", 60);
+        int subscribers = intOption("subscribers", 100);
+        long thinkTimeMs = intOption("think-time-ms", 100);
+        // The think time is uniform in [0, 2 * think-time-ms], so this is its mean
+        expectedIntervalNanos = TimeUnit.MILLISECONDS.toNanos(thinkTimeMs);
+
+        System.out.printf("Load test against %s: %d users, %d subscribers, %d s%n", baseUrl, users, subscribers, durationSeconds);
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            String token = login(i);
+            if (token != null) {
+                tokens.add(token);
+            }
+        }
+        if (tokens.isEmpty()) {
+            throw new RuntimeException("No virtual user could log in, is the backend running at " + baseUrl + "?");
+        }
+        loadIssues(tokens.get(0));
+
+        StompSubscribers stomp = new StompSubscribers(stats.get("ws-connect"), stats.get("event-delivery"));
+        String wsUrl = baseUrl.replaceFirst("^http", "ws") + "/ws-native";
+        stomp.connect(wsUrl, option("origin", "http://localhost:4200"), subscribers, hotIssueIds);
+        System.out.printf("%d STOMP subscribers connected to %d hot issue(s)%n", stomp.connected(), hotIssueIds.size());
+
+        int browseWeight = intOption("browse-weight", 60);
+        int detailWeight = intOption("detail-weight", 30);
+        int commentWeight = intOption("comment-weight", 10);
+        int totalWeight = browseWeight + detailWeight + commentWeight;
+
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(durationSeconds);
+        ExecutorService workers = Executors.newFixedThreadPool(tokens.size());
+        for (String token : tokens) {
+            workers.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (System.nanoTime() < deadline) {
+                    int pick = random.nextInt(totalWeight);
+                    if (pick < browseWeight) {
+                        browse(token, random);
+                    } else if (pick < browseWeight + detailWeight) {
+                        detail(token, random);
+                    } else {
+                        comment(token, random);
+                    }
+                    if (thinkTimeMs > 0) {
+                        try {
+                            Thread.sleep(random.nextLong(thinkTimeMs * 2 + 1));
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                    }
+                }
+            });
+        }
+        workers.shutdown();
+        while (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            long requests = stats.get("browse").count() + stats.get("detail").count() + stats.get("comment").count();
+            System.out.printf("... %d s, %d requests, %d events delivered%n",
+                TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start), requests, stats.get("event-delivery").count());
+        }
+        double elapsed = (System.nanoTime() - start) / 1e9;
+
+        // Let in-flight events arrive before reporting
+        Thread.sleep(2000);
+        stomp.close();
+
+        System.out.println();
+        System.out.println(OperationStats.header());
+        for (OperationStats operation : stats.values()) {
+            System.out.println(operation.summary(elapsed));
+        }
+        if (options.containsKey("results")) {
+            appendResults(Path.of(option("results", null)), option("label", "run"), elapsed);
+        }
+    }
+
+    private void appendResults(Path file, String label, double elapsed) throws IOException {
+        List<String> lines = new ArrayList<>();
+        if (!Files.exists(file)) {
+            lines.add("label," + OperationStats.csvHeader());
+        }
+        for (OperationStats operation : stats.values()) {
+            lines.add(label + "," + operation.csv(elapsed));
+        }
+        Files.write(file, lines, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        System.out.println("Results appended to " + file.toAbsolutePath());
+    }
+
+    private String login(int index) throws InterruptedException {
+        String email = "loadtest-user" + index + "@example.com";
+        String password = option("password", "password");
+        Map<String, String> body = Map.of("name", "Load Test User " + index, "email", email, "password", password);
+        OperationStats login = stats.get("login");
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = post("/api/auth/signup", null, body);
+            if (response.statusCode() != 200) {
+                // Already signed up by an earlier run
+                response = post("/api/auth/login", null, Map.of("email", email, "password", password));
+            }
+            if (response.statusCode() != 200) {
+                login.error();
+                return null;
+            }
+            login.record(start, System.nanoTime());
+            return objectMapper.readTree(response.body()).path("token").asText();
+        } catch (IOException e) {
+            login.error();
+            return null;
+        }
+    }
+
+    private void loadIssues(String token) throws IOException, InterruptedException {
+        HttpResponse<String> response = get("/api/issues?size=200", token);
+        if (response.statusCode() != 200) {
+            throw new RuntimeException("Could not list issues: HTTP " + response.statusCode());
+        }
+        for (JsonNode issue : objectMapper.readTree(response.body()).path("content")) {
+            issueIds.add(issue.path("id").asLong());
+            long projectId = issue.path("projectId").asLong();
+            if (!projectIds.contains(projectId)) {
+                projectIds.add(projectId);
+            }
+        }
+        if (issueIds.isEmpty()) {
+            // Empty database: create something to work on
+            JsonNode project = objectMapper.readTree(post("/api/projects", token, Map.of("name", "Load Test")).body());
+            projectIds.add(project.path("id").asLong());
+            for (int i = 0; i < 20; i++) {
+                JsonNode issue = objectMapper.readTree(post("/api/issues", token, Map.of(
+                    "title", "Load test issue " + i, "description", "Created by the load test",
+                    "projectId", project.path("id").asLong())).body());
+                issueIds.add(issue.path("id").asLong());
+            }
+        }
+        int hotIssues = Math.min(intOption("hot-issues", 10), issueIds.size());
+        hotIssueIds.addAll(issueIds.subList(0, hotIssues));
+    }
+
+    private void browse(String token, ThreadLocalRandom random) {
+        StringBuilder query = new StringBuilder("/api/issues?size=20&page=").append(random.nextInt(5));
+        query.append("&sortBy=").append(SORTS[random.nextInt(SORTS.length)])
+            .append("&sortDir=").append(random.nextBoolean() ? "asc" : "desc");
+        if (random.nextInt(2) == 0) {
+            query.append("&status=").append(STATUSES[random.nextInt(STATUSES.length)]);
+        }
+        if (random.nextInt(3) == 0) {
+            query.append("&priority=").append(PRIORITIES[random.nextInt(PRIORITIES.length)]);
+        }
+        if (random.nextInt(2) == 0) {
+            query.append("&projectId=").append(projectIds.get(random.nextInt(projectIds.size())));
+        }
+        if (random.nextInt(10) == 0) {
+            query.append("&searchText=").append(URLEncoder.encode(SEARCHES[random.nextInt(SEARCHES.length)], StandardCharsets.UTF_8));
+        }
+        timed("browse", () -> get(query.toString(), token));
+    }
+
+    private void detail(String token, ThreadLocalRandom random) {
+        Long issueId = issueIds.get(random.nextInt(issueIds.size()));
+        timed("detail", () -> get("/api/issues/" + issueId, token));
+    }
+
+    private void comment(String token, ThreadLocalRandom random) {
+        Long issueId = hotIssueIds.get(random.nextInt(hotIssueIds.size()));
+        timed("comment", () -> post("/api/issues/" + issueId + "/comments", token,
+            Map.of("content", "Load test comment " + StompSubscribers.MARKER + System.nanoTime())));
+    }
+
+    private void timed(String operation, Request request) {
+        OperationStats operationStats = stats.get(operation);
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = request.send();
+            if (response.statusCode() / 100 == 2) {
+                operationStats.record(start, System.nanoTime(), expectedIntervalNanos);
+            } else {
+                operationStats.error();
+            }
+        } catch (IOException e) {
+            operationStats.error();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private HttpResponse<String> get(String path, String token) throws IOException, InterruptedException {
+        return httpClient.send(request(path, token).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, String token, Object body) throws IOException, InterruptedException {
+        HttpRequest request = request(path, token)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+            .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private String option(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+
+    private int intOption(String name, int defaultValue) {
+        return Integer.parseInt(option(name, String.valueOf(defaultValue)));
+    }
+
+    @FunctionalInterface
+    private interface Request {
+        HttpResponse<String> send() throws IOException, InterruptedException;
+    }
+}
@@ -0,0 +1,77 @@
+package com.issuetracker.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram (microseconds, auto-resizing) and error count for one operation type.
+ *
+ * Closed-loop virtual users send nothing while they wait for a slow response, so the requests a
+ * stall should have delayed are never measured (coordinated omission). Operations recorded with an
+ * expected interval are corrected for this: a latency longer than the interval also records the
+ * samples the user would have sent meanwhile. The percentiles include those samples; count and
+ * ops/s are the requests that actually completed.
+ */
+class OperationStats {
+
+    private final String name;
+    private final Histogram histogram = new ConcurrentHistogram(3);
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    OperationStats(String name) {
+        this.name = name;
+    }
+
+    void record(long startNanos, long endNanos) {
+        record(startNanos, endNanos, 0);
+    }
+
+    /** Records one latency, corrected for coordinated omission when {@code expectedIntervalNanos} is positive. */
+    void record(long startNanos, long endNanos, long expectedIntervalNanos) {
+        histogram.recordValueWithExpectedInterval(Math.max(0, TimeUnit.NANOSECONDS.toMicros(endNanos - startNanos)),
+            TimeUnit.NANOSECONDS.toMicros(expectedIntervalNanos));
+        completed.increment();
+    }
+
+    void error() {
+        errors.increment();
+    }
+
+    long count() {
+        return completed.sum();
+    }
+
+    static String header() {
+        return String.format("%-16s %10s %8s %10s %9s %9s %9s %9s %9s",
+            "operation", "count", "errors", "ops/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+    }
+
+    String summary(double elapsedSeconds) {
+        return String.format("%-16s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f",
+            name, count(), errors.sum(), count() / elapsedSeconds,
+            millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+            millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+            millis(histogram.getMaxValue()));
+    }
+
+    static String csvHeader() {
+        return "operation,count,errors,ops_per_s,p50_ms,p90_ms,p99_ms,p999_ms,max_ms";
+    }
+
+    String csv(double elapsedSeconds) {
+        return String.format(Locale.ROOT, "%s,%d,%d,%.1f,%.2f,%.2f,%.2f,%.2f,%.2f",
+            name, count(), errors.sum(), count() / elapsedSeconds,
+            millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+            millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+            millis(histogram.getMaxValue()));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,97 @@
+package com.issuetracker.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds STOMP sessions on {@code /ws-native}, each subscribed to the comment topic of one of the
+ * hot issues (round robin), and records how long each comment event took to arrive.
+ *
+ * Comments posted by the load test carry the {@link System#nanoTime()} of the moment the request
+ * was sent, so delivery latency is measured end to end within this JVM: HTTP request, commit,
+ * event bus and broker fan-out.
+ */
+class StompSubscribers {
+
+    static final String MARKER = "loadtest-sent:";
+
+    private final WebSocketStompClient stompClient;
+    private final OperationStats connectStats;
+    private final OperationStats deliveryStats;
+    private final List<StompSession> sessions = new ArrayList<>();
+
+    StompSubscribers(OperationStats connectStats, OperationStats deliveryStats) {
+        this.stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        this.stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        this.connectStats = connectStats;
+        this.deliveryStats = deliveryStats;
+    }
+
+    void connect(String url, String origin, int count, List<Long> issueIds) {
+        WebSocketHttpHeaders handshakeHeaders = new WebSocketHttpHeaders();
+        handshakeHeaders.setOrigin(origin);
+        for (int i = 0; i < count; i++) {
+            Long issueId = issueIds.get(i % issueIds.size());
+            long start = System.nanoTime();
+            try {
+                StompSession session = stompClient
+                    .connectAsync(url, handshakeHeaders, new StompSessionHandlerAdapter() { })
+                    .get(10, TimeUnit.SECONDS);
+                session.subscribe("/topic/issues/" + issueId + "/comments", new DeliveryHandler());
+                connectStats.record(start, System.nanoTime());
+                sessions.add(session);
+            } catch (Exception e) {
+                connectStats.error();
+            }
+        }
+    }
+
+    int connected() {
+        return (int) sessions.stream().filter(StompSession::isConnected).count();
+    }
+
+    void close() {
+        for (StompSession session : sessions) {
+            if (session.isConnected()) {
+                session.disconnect();
+            }
+        }
+        stompClient.stop();
+    }
+
+    private class DeliveryHandler implements StompFrameHandler {
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return JsonNode.class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            long received = System.nanoTime();
+            String content = ((JsonNode) payload).path("content").asText("");
+            int at = content.indexOf(MARKER);
+            if (at < 0) {
+                // A comment from someone other than the load test
+                return;
+            }
+            try {
+                deliveryStats.record(Long.parseLong(content.substring(at + MARKER.length()).trim()), received);
+            } catch (NumberFormatException e) {
+                deliveryStats.error();
+            }
+        }
+    }
+}
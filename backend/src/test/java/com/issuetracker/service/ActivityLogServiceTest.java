@@ -62,8 +62,8 @@ class ActivityLogServiceTest {
         testLog.setNewValue(null);
         testLog.setCreatedAt(LocalDateTime.now());
 
-        // Set SimpMessagingTemplate to null (cannot mock in Java 25)
-        Field messagingField = ActivityLogService.class.getDeclaredField("messagingTemplate");
+        // Set EventPublisher (wraps SimpMessagingTemplate) to null (cannot mock in Java 25)
+        Field messagingField = ActivityLogService.class.getDeclaredField("eventPublisher");
         messagingField.setAccessible(true);
         messagingField.set(activityLogService, null);
     }
@@ -0,0 +1,313 @@
+package com.issuetracker.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.issuetracker.dto.AuthRequest;
+import com.issuetracker.dto.AuthResponse;
+import com.issuetracker.dto.CreateIssueRequest;
+import com.issuetracker.model.Comment;
+import com.issuetracker.model.Issue;
+import com.issuetracker.model.IssuePriority;
+import com.issuetracker.model.IssueStatus;
+import com.issuetracker.model.Project;
+import com.issuetracker.model.ProjectDeletionJob;
+import com.issuetracker.model.ProjectDeletionStatus;
+import com.issuetracker.model.User;
+import com.issuetracker.repository.CommentRepository;
+import com.issuetracker.repository.IssueRepository;
+import com.issuetracker.repository.ProjectDeletionJobRepository;
+import com.issuetracker.repository.ProjectRepository;
+import com.issuetracker.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Not @Transactional: every chunk commits in its own transaction, so the test data is committed
+// and removed again after each test. The worker is driven by hand; the long poll interval keeps
+// this context's scheduler out of the way, and jobs are leased to this node while a test needs them.
+@SpringBootTest(properties = {
+    "projects.deletion.chunk-size=2",
+    "projects.deletion.poll-interval-ms=3600000"
+})
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+class ProjectDeletionServiceIntegrationTest {
+
+    private static final int ISSUES = 5;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ProjectDeletionJobRepository jobRepository;
+
+    @Autowired
+    private ProjectDeletionService projectDeletionService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MockMvc mockMvc;
+    private TransactionTemplate transactionTemplate;
+    private User owner;
+    private User otherUser;
+    private Project project;
+    private Issue issue;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        owner = saveUser("deletionowner@example.com");
+        otherUser = saveUser("deletionother@example.com");
+
+        project = new Project();
+        project.setName("Deletion Project");
+        project.setOwner(owner);
+        project = projectRepository.save(project);
+
+        for (int i = 0; i < ISSUES; i++) {
+            Issue issue = new Issue();
+            issue.setTitle("Issue " + i);
+            issue.setStatus(IssueStatus.OPEN);
+            issue.setPriority(IssuePriority.MEDIUM);
+            issue.setProject(project);
+            issue.setCreator(owner);
+            issue = issueRepository.save(issue);
+            this.issue = issue;
+
+            Comment comment = new Comment();
+            comment.setContent("Comment " + i);
+            comment.setIssue(issue);
+            comment.setAuthor(owner);
+            commentRepository.save(comment);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Finish whatever the test left behind, then drop the jobs and users
+        jobRepository.findTopByProjectIdOrderByIdDesc(project.getId()).ifPresent(job -> {
+            if (job.getStatus() == ProjectDeletionStatus.IN_PROGRESS) {
+                leaseTo(job.getId(), nodeId(), LocalDateTime.now().plusMinutes(1));
+                ReflectionTestUtils.invokeMethod(projectDeletionService, "run", job.getId(), Long.MAX_VALUE);
+            }
+        });
+        jobRepository.findAll().stream()
+                .filter(job -> project.getId().equals(job.getProjectId()))
+                .forEach(jobRepository::delete);
+        userRepository.delete(owner);
+        userRepository.delete(otherUser);
+    }
+
+    @Test
+    void delete_TombstonesProjectAtOnce() throws Exception {
+        String token = login(owner.getEmail());
+
+        mockMvc.perform(delete("/api/projects/" + project.getId())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/projects/" + project.getId() + "/deletion"))
+                .andExpect(jsonPath("$.issuesTotal").value(ISSUES));
+
+        mockMvc.perform(get("/api/projects/" + project.getId())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNotFound());
+
+        String listing = mockMvc.perform(get("/api/projects")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        assertFalse(listing.contains("Deletion Project"), listing);
+    }
+
+    @Test
+    void issueWrites_OnTombstonedProject_NotFound() throws Exception {
+        String token = login(owner.getEmail());
+        mockMvc.perform(delete("/api/projects/" + project.getId())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isAccepted());
+
+        CreateIssueRequest request = new CreateIssueRequest();
+        request.setTitle("Edited after delete");
+        request.setStatus(IssueStatus.CLOSED);
+        request.setPriority(IssuePriority.HIGH);
+        request.setProjectId(project.getId());
+        mockMvc.perform(put("/api/issues/" + issue.getId())
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(delete("/api/issues/" + issue.getId())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNotFound());
+
+        Issue unchanged = issueRepository.findById(issue.getId()).orElseThrow();
+        assertEquals("Issue " + (ISSUES - 1), unchanged.getTitle());
+        assertEquals(IssueStatus.OPEN, unchanged.getStatus());
+    }
+
+    @Test
+    void deleteChunk_CommitsOneChunkAtATime() {
+        Long jobId = startLeasedToThisNode();
+
+        assertTrue(deleteChunk(jobId));
+
+        ProjectDeletionJob job = jobRepository.findById(jobId).orElseThrow();
+        assertEquals(2, job.getIssuesDeleted());
+        assertEquals(2, job.getCommentsDeleted());
+        assertEquals(ISSUES - 2, issueRepository.countByProjectId(project.getId()));
+
+        assertTrue(deleteChunk(jobId));
+        assertTrue(deleteChunk(jobId));
+        assertEquals(0, issueRepository.countByProjectId(project.getId()));
+        // The chunk that finds no issues left removes the project and completes the job
+        assertFalse(deleteChunk(jobId));
+
+        job = jobRepository.findById(jobId).orElseThrow();
+        assertEquals(ProjectDeletionStatus.COMPLETED, job.getStatus());
+        assertEquals(ISSUES, job.getIssuesDeleted());
+        assertEquals(ISSUES, job.getCommentsDeleted());
+        assertNull(job.getLeaseOwner());
+        assertTrue(projectRepository.findById(project.getId()).isEmpty());
+    }
+
+    @Test
+    void processJobs_ResumesJobOfStoppedNode() {
+        Long jobId = startLeasedToThisNode();
+        assertTrue(deleteChunk(jobId));
+
+        // The node died mid-job: its lease runs out and the committed chunk stays deleted
+        leaseTo(jobId, "stopped-node", LocalDateTime.now().minusSeconds(1));
+
+        projectDeletionService.processJobs();
+
+        ProjectDeletionJob job = jobRepository.findById(jobId).orElseThrow();
+        assertEquals(ProjectDeletionStatus.COMPLETED, job.getStatus());
+        assertEquals(ISSUES, job.getIssuesDeleted());
+        assertEquals(ISSUES, job.getCommentsDeleted());
+        assertTrue(projectRepository.findById(project.getId()).isEmpty());
+    }
+
+    @Test
+    void processJobs_SkipsJobLeasedByAnotherNode() {
+        Long jobId = startLeasedToThisNode();
+        leaseTo(jobId, "other-node", LocalDateTime.now().plusMinutes(1));
+
+        projectDeletionService.processJobs();
+
+        ProjectDeletionJob job = jobRepository.findById(jobId).orElseThrow();
+        assertEquals(ProjectDeletionStatus.IN_PROGRESS, job.getStatus());
+        assertEquals(0, job.getIssuesDeleted());
+        assertEquals("other-node", job.getLeaseOwner());
+        assertEquals(ISSUES, issueRepository.countByProjectId(project.getId()));
+    }
+
+    @Test
+    void getDeletionProgress_OwnerOnly() throws Exception {
+        String ownerToken = login(owner.getEmail());
+        mockMvc.perform(delete("/api/projects/" + project.getId())
+                        .header("Authorization", "Bearer " + ownerToken))
+                .andExpect(status().isAccepted());
+
+        mockMvc.perform(get("/api/projects/" + project.getId() + "/deletion")
+                        .header("Authorization", "Bearer " + login(otherUser.getEmail())))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/api/projects/" + project.getId() + "/deletion")
+                        .header("Authorization", "Bearer " + ownerToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.projectName").value("Deletion Project"));
+    }
+
+    // Starts the deletion with the lease already held by this node, so no other node's worker
+    // (other test contexts share the database) can pick the job up in between
+    private Long startLeasedToThisNode() {
+        return transactionTemplate.execute(status -> {
+            projectDeletionService.start(projectRepository.findById(project.getId()).orElseThrow());
+            ProjectDeletionJob job = jobRepository.findTopByProjectIdOrderByIdDesc(project.getId()).orElseThrow();
+            job.setLeaseOwner(nodeId());
+            job.setLeaseUntil(LocalDateTime.now().plusMinutes(1));
+            return job.getId();
+        });
+    }
+
+    private boolean deleteChunk(Long jobId) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status ->
+                ReflectionTestUtils.invokeMethod(projectDeletionService, "deleteChunk", jobId)));
+    }
+
+    private void leaseTo(Long jobId, String leaseOwner, LocalDateTime leaseUntil) {
+        transactionTemplate.executeWithoutResult(status -> {
+            ProjectDeletionJob job = jobRepository.findById(jobId).orElseThrow();
+            job.setLeaseOwner(leaseOwner);
+            job.setLeaseUntil(leaseUntil);
+        });
+    }
+
+    private String nodeId() {
+        return (String) ReflectionTestUtils.getField(projectDeletionService, "nodeId");
+    }
+
+    private User saveUser(String email) {
+        User user = new User();
+        user.setEmail(email);
+        user.setName("Deletion Test User");
+        user.setPassword(passwordEncoder.encode("password123"));
+        return userRepository.save(user);
+    }
+
+    private String login(String email) throws Exception {
+        String response = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AuthRequest(email, "password123"))))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readValue(response, AuthResponse.class).getToken();
+    }
+}
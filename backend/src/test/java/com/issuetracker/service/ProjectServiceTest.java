@@ -5,6 +5,7 @@ import com.issuetracker.dto.ProjectDto;
 import com.issuetracker.model.Project;
 import com.issuetracker.model.User;
 import com.issuetracker.repository.ProjectRepository;
+import com.issuetracker.repository.ProjectStatsRepository;
 import com.issuetracker.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,7 +13,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -28,6 +31,9 @@ class ProjectServiceTest {
     @Mock
     private UserRepository userRepository;
     
+    @Mock
+    private ProjectStatsRepository projectStatsRepository;
+    
     @InjectMocks
     private ProjectService projectService;
     
@@ -45,6 +51,11 @@ class ProjectServiceTest {
         testProject.setId(1L);
         testProject.setName("Test Project");
         testProject.setOwner(testUser);
+        
+        // Real ProjectStatsService backed by the mocked ProjectStatsRepository
+        ProjectStatsService projectStatsService = new ProjectStatsService();
+        ReflectionTestUtils.setField(projectStatsService, "projectStatsRepository", projectStatsRepository);
+        ReflectionTestUtils.setField(projectService, "projectStatsService", projectStatsService);
     }
     
     @Test
@@ -65,7 +76,9 @@ class ProjectServiceTest {
         assertNotNull(result);
         assertEquals("New Project", result.getName());
         assertEquals(testUser.getId(), result.getOwnerId());
+        assertEquals(0, result.getStats().getOpen());
         verify(projectRepository, times(1)).save(any(Project.class));
+        verify(projectStatsRepository).save(any());
     }
     
     @Test
@@ -83,7 +96,9 @@ class ProjectServiceTest {
     @Test
     void testGetProjectById_Success() {
         // Given
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(testProject));
+        LocalDateTime now = LocalDateTime.now();
+        when(projectRepository.findProjectDtoById(1L)).thenReturn(Optional.of(new ProjectDto(
+            1L, "Test Project", testUser.getId(), testUser.getName(), now, now, 2L, 1L, 0L, 0L, 3L, 0L, 0L)));
         
         // When
         ProjectDto result = projectService.getProjectById(1L);
@@ -92,12 +107,15 @@ class ProjectServiceTest {
         assertNotNull(result);
         assertEquals(testProject.getId(), result.getId());
         assertEquals(testProject.getName(), result.getName());
+        assertEquals(2, result.getStats().getOpen());
+        assertEquals(3, result.getStats().getMedium());
+        verifyNoInteractions(projectStatsRepository);
     }
     
     @Test
     void testGetProjectById_NotFound() {
         // Given
-        when(projectRepository.findById(1L)).thenReturn(Optional.empty());
+        when(projectRepository.findProjectDtoById(1L)).thenReturn(Optional.empty());
         
         // When & Then
         assertThrows(RuntimeException.class, () -> {
@@ -0,0 +1,254 @@
+package com.issuetracker.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.issuetracker.dto.AuthRequest;
+import com.issuetracker.dto.AuthResponse;
+import com.issuetracker.dto.CreateIssueRequest;
+import com.issuetracker.dto.CreateProjectRequest;
+import com.issuetracker.dto.ProjectStatsDto;
+import com.issuetracker.model.IssuePriority;
+import com.issuetracker.model.IssueStatus;
+import com.issuetracker.model.JobLease;
+import com.issuetracker.model.User;
+import com.issuetracker.repository.JobLeaseRepository;
+import com.issuetracker.repository.ProjectStatsRepository;
+import com.issuetracker.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureWebMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Small batches, so a handful of projects spans several of them
+@SpringBootTest(properties = "projects.stats.reconcile-batch-size=2")
+@AutoConfigureWebMvc
+@ActiveProfiles("test")
+@Transactional
+class ProjectStatsServiceIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProjectStatsService projectStatsService;
+
+    @Autowired
+    private ProjectStatsRepository projectStatsRepository;
+
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private MockMvc mockMvc;
+    private String authToken;
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockMvc = MockMvcBuilders
+                .webAppContextSetup(context)
+                .apply(springSecurity())
+                .build();
+
+        User user = new User();
+        user.setEmail("statstest@example.com");
+        user.setName("Stats Test User");
+        user.setPassword(passwordEncoder.encode("password123"));
+        userRepository.save(user);
+
+        String loginResponse = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new AuthRequest("statstest@example.com", "password123"))))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        authToken = objectMapper.readValue(loginResponse, AuthResponse.class).getToken();
+
+        projectId = createProject("Stats Project");
+    }
+
+    @Test
+    void testIssueCreated_IncrementsStatusAndPriority() throws Exception {
+        createIssue(IssueStatus.OPEN, IssuePriority.HIGH);
+        createIssue(IssueStatus.OPEN, IssuePriority.LOW);
+        createIssue(IssueStatus.CLOSED, IssuePriority.HIGH);
+
+        assertCounts(2, 0, 1, 1, 0, 2, 0);
+    }
+
+    @Test
+    void testIssueChanged_MovesCounts() throws Exception {
+        long issueId = createIssue(IssueStatus.OPEN, IssuePriority.MEDIUM);
+
+        CreateIssueRequest update = issueRequest(IssueStatus.IN_PROGRESS, IssuePriority.CRITICAL);
+        mockMvc.perform(put("/api/issues/" + issueId)
+                        .header("Authorization", "Bearer " + authToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+
+        assertCounts(0, 1, 0, 0, 0, 0, 1);
+    }
+
+    @Test
+    void testIssueDeleted_DecrementsCounts() throws Exception {
+        long kept = createIssue(IssueStatus.OPEN, IssuePriority.LOW);
+        long deleted = createIssue(IssueStatus.OPEN, IssuePriority.HIGH);
+
+        mockMvc.perform(delete("/api/issues/" + deleted)
+                        .header("Authorization", "Bearer " + authToken))
+                .andExpect(status().is2xxSuccessful());
+
+        assertNotEquals(kept, deleted);
+        assertCounts(1, 0, 0, 1, 0, 0, 0);
+    }
+
+    @Test
+    void testReconcile_CorrectsDriftedRow() throws Exception {
+        createIssue(IssueStatus.OPEN, IssuePriority.HIGH);
+        createIssue(IssueStatus.IN_PROGRESS, IssuePriority.HIGH);
+        entityManager.flush();
+        entityManager.createQuery("UPDATE ProjectStats s SET s.openCount = 42, s.highCount = 0 WHERE s.projectId = :id")
+                .setParameter("id", projectId)
+                .executeUpdate();
+        entityManager.clear();
+
+        projectStatsService.reconcile();
+        entityManager.clear();
+
+        assertCounts(1, 1, 0, 0, 0, 2, 0);
+    }
+
+    @Test
+    void testReconcile_CreatesMissingRow() throws Exception {
+        createIssue(IssueStatus.CLOSED, IssuePriority.MEDIUM);
+        entityManager.flush();
+        projectStatsRepository.deleteById(projectId);
+        entityManager.flush();
+        entityManager.clear();
+
+        projectStatsService.reconcile();
+        entityManager.flush();
+        entityManager.clear();
+
+        assertCounts(0, 0, 1, 0, 1, 0, 0);
+    }
+
+    @Test
+    void testReconcile_CorrectsRowsAcrossBatches() throws Exception {
+        long first = projectId;
+        createIssue(IssueStatus.OPEN, IssuePriority.LOW);
+        long[] others = new long[4];
+        for (int i = 0; i < others.length; i++) {
+            others[i] = createProject("Stats Project " + i);
+            projectId = others[i];
+            createIssue(IssueStatus.CLOSED, IssuePriority.CRITICAL);
+        }
+        entityManager.flush();
+        entityManager.createQuery("UPDATE ProjectStats s SET s.openCount = 9, s.closedCount = 9")
+                .executeUpdate();
+        entityManager.clear();
+
+        projectStatsService.reconcile();
+
+        projectId = first;
+        assertCounts(1, 0, 0, 1, 0, 0, 0);
+        for (long other : others) {
+            projectId = other;
+            assertCounts(0, 0, 1, 0, 0, 0, 1);
+        }
+    }
+
+    @Test
+    void testReconcile_SkippedWhileAnotherNodeHoldsLease() throws Exception {
+        createIssue(IssueStatus.OPEN, IssuePriority.HIGH);
+        JobLease lease = new JobLease(ProjectStatsService.RECONCILE_JOB);
+        lease.setLeaseOwner("other-node");
+        lease.setLeaseUntil(LocalDateTime.now().plusMinutes(5));
+        jobLeaseRepository.save(lease);
+        entityManager.flush();
+        entityManager.createQuery("UPDATE ProjectStats s SET s.openCount = 42 WHERE s.projectId = :id")
+                .setParameter("id", projectId)
+                .executeUpdate();
+        entityManager.clear();
+
+        projectStatsService.reconcile();
+
+        assertCounts(42, 0, 0, 0, 0, 1, 0);
+    }
+
+    private long createProject(String name) throws Exception {
+        String response = mockMvc.perform(post("/api/projects")
+                        .header("Authorization", "Bearer " + authToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateProjectRequest(name))))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(response).get("id").asLong();
+    }
+
+    private long createIssue(IssueStatus status, IssuePriority priority) throws Exception {
+        String response = mockMvc.perform(post("/api/issues")
+                        .header("Authorization", "Bearer " + authToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(issueRequest(status, priority))))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(response).get("id").asLong();
+    }
+
+    private CreateIssueRequest issueRequest(IssueStatus status, IssuePriority priority) {
+        CreateIssueRequest request = new CreateIssueRequest();
+        request.setTitle("Stats issue");
+        request.setStatus(status);
+        request.setPriority(priority);
+        request.setProjectId(projectId);
+        return request;
+    }
+
+    private void assertCounts(long open, long inProgress, long closed,
+                              long low, long medium, long high, long critical) {
+        // The deltas are bulk UPDATEs; read the row again rather than a stale managed copy
+        entityManager.clear();
+        ProjectStatsDto stats = projectStatsService.getStats(projectId);
+        assertEquals(open, stats.getOpen(), "open");
+        assertEquals(inProgress, stats.getInProgress(), "inProgress");
+        assertEquals(closed, stats.getClosed(), "closed");
+        assertEquals(low, stats.getLow(), "low");
+        assertEquals(medium, stats.getMedium(), "medium");
+        assertEquals(high, stats.getHigh(), "high");
+        assertEquals(critical, stats.getCritical(), "critical");
+    }
+}
@@ -0,0 +1,86 @@
+package com.issuetracker.service;
+
+import com.issuetracker.events.EventBus;
+import com.issuetracker.events.InMemoryEventBus;
+import com.issuetracker.repository.RevokedTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Two services sharing one bus and one (mocked) revoked_tokens table stand in for two nodes.
+ */
+class TokenRevocationServiceTest {
+
+    private RevokedTokenRepository revokedTokenRepository;
+    private TokenRevocationService nodeA;
+    private TokenRevocationService nodeB;
+
+    @BeforeEach
+    void setUp() {
+        revokedTokenRepository = mock(RevokedTokenRepository.class);
+        when(revokedTokenRepository.findActiveJtis(any())).thenReturn(List.of());
+
+        EventBus bus = new InMemoryEventBus();
+        nodeA = newNode(bus);
+        nodeB = newNode(bus);
+    }
+
+    @Test
+    void testRevoke_ReachesOtherNodeOverBus() {
+        when(revokedTokenRepository.existsByJti("jti-1")).thenReturn(true);
+        assertFalse(nodeB.isRevoked("jti-1"));
+        verify(revokedTokenRepository, never()).existsByJti("jti-1");
+
+        nodeA.revoke("jti-1", new Date(System.currentTimeMillis() + 60_000));
+
+        assertTrue(nodeB.isRevoked("jti-1"));
+        assertTrue(nodeA.isRevoked("jti-1"));
+    }
+
+    @Test
+    void testIsRevoked_FilterHitConfirmedOnceThenCached() {
+        when(revokedTokenRepository.existsByJti("jti-2")).thenReturn(true);
+        nodeA.revoke("jti-2", new Date(System.currentTimeMillis() + 60_000));
+
+        assertTrue(nodeB.isRevoked("jti-2"));
+        assertTrue(nodeB.isRevoked("jti-2"));
+
+        // One database check per node; later lookups come from the confirmed cache
+        verify(revokedTokenRepository, times(1)).existsByJti("jti-2");
+    }
+
+    @Test
+    void testRebuild_RestoresRevocationsMissedOnBus() {
+        when(revokedTokenRepository.findActiveJtis(any())).thenReturn(List.of("jti-3"));
+        when(revokedTokenRepository.existsByJti("jti-3")).thenReturn(true);
+        assertFalse(nodeB.isRevoked("jti-3"));
+
+        nodeB.rebuild();
+
+        assertTrue(nodeB.isRevoked("jti-3"));
+    }
+
+    private TokenRevocationService newNode(EventBus bus) {
+        // Publishing outside a transaction goes straight to the bus; local STOMP delivery is not needed here
+        EventPublisher eventPublisher = new EventPublisher();
+        ReflectionTestUtils.setField(eventPublisher, "eventBus", bus);
+
+        TokenRevocationService service = new TokenRevocationService();
+        ReflectionTestUtils.setField(service, "revokedTokenRepository", revokedTokenRepository);
+        ReflectionTestUtils.setField(service, "eventPublisher", eventPublisher);
+        ReflectionTestUtils.setField(service, "eventBus", bus);
+        ReflectionTestUtils.setField(service, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "expectedTokens", 1_000L);
+        ReflectionTestUtils.setField(service, "falsePositiveRate", 0.01);
+        ReflectionTestUtils.invokeMethod(service, "init");
+        return service;
+    }
+}
@@ -0,0 +1,91 @@
+package com.issuetracker.tracing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestTraceTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestTrace.clear();
+    }
+
+    @Test
+    void testBegin_WithoutTrace_ReturnsNull() {
+        assertFalse(RequestTrace.isActive());
+        assertNull(RequestTrace.begin("service", "IssueService.getIssues"));
+        RequestTrace.end(null);
+    }
+
+    @Test
+    void testSpans_NestUnderInnermostOpenSpan() {
+        RequestTrace trace = RequestTrace.start("GET /api/issues", 10);
+
+        RequestTrace.Span service = RequestTrace.begin("service", "IssueService.getIssues");
+        RequestTrace.Span sql = RequestTrace.begin("sql", "select ...");
+        RequestTrace.end(sql);
+        RequestTrace.end(service);
+        RequestTrace.Span send = RequestTrace.begin("stomp", "/topic/issues");
+        RequestTrace.end(send);
+
+        RequestTrace.Span root = trace.finish();
+        assertEquals(List.of(service, send), root.children());
+        assertEquals(List.of(sql), service.children());
+        assertTrue(send.children().isEmpty());
+    }
+
+    @Test
+    void testEnd_ClosesUnendedChildren() {
+        RequestTrace trace = RequestTrace.start("GET /api/issues", 10);
+
+        RequestTrace.Span outer = RequestTrace.begin("service", "outer");
+        RequestTrace.Span forgotten = RequestTrace.begin("service", "forgotten");
+        RequestTrace.end(outer);
+        RequestTrace.Span next = RequestTrace.begin("service", "next");
+        RequestTrace.end(next);
+
+        RequestTrace.Span root = trace.finish();
+        assertEquals(List.of(outer, next), root.children());
+        assertEquals(List.of(forgotten), outer.children());
+        assertTrue(forgotten.children().isEmpty());
+    }
+
+    @Test
+    void testBegin_BeyondMaxSpans_DropsSpans() {
+        RequestTrace trace = RequestTrace.start("GET /api/issues", 2);
+
+        assertNotNull(RequestTrace.begin("sql", "one"));
+        assertNotNull(RequestTrace.begin("sql", "two"));
+        assertNull(RequestTrace.begin("sql", "three"));
+        assertNull(RequestTrace.begin("sql", "four"));
+
+        assertEquals(2, trace.droppedSpans());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testToMap_RowsErrorsAndChildren() {
+        RequestTrace trace = RequestTrace.start("GET /api/issues", 10);
+        RequestTrace.Span sql = RequestTrace.begin("sql", "select ...");
+        sql.addRows(2);
+        sql.addRows(3);
+        sql.markError();
+        RequestTrace.end(sql);
+
+        RequestTrace.Span root = trace.finish();
+        Map<String, Object> map = root.toMap(root.start());
+
+        assertEquals("request", map.get("kind"));
+        assertEquals("GET /api/issues", map.get("name"));
+        assertFalse(map.containsKey("rows"));
+        Map<String, Object> child = ((List<Map<String, Object>>) map.get("children")).get(0);
+        assertEquals("select ...", child.get("name"));
+        assertEquals(5L, child.get("rows"));
+        assertEquals(true, child.get("error"));
+    }
+}
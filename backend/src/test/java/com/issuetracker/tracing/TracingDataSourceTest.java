@@ -0,0 +1,110 @@
+package com.issuetracker.tracing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TracingDataSourceTest {
+
+    private TracingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = new TracingDataSource(new DriverManagerDataSource("jdbc:h2:mem:tracingtest;DB_CLOSE_DELAY=-1", "sa", ""));
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS traced");
+            statement.execute("CREATE TABLE traced (id INT PRIMARY KEY, name VARCHAR(20))");
+            statement.execute("INSERT INTO traced VALUES (1, 'a'), (2, 'b'), (3, 'c')");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestTrace.clear();
+    }
+
+    @Test
+    void testGetConnection_NotTraced_IsUnwrapped() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            assertFalse(Proxy.isProxyClass(connection.getClass()));
+        }
+    }
+
+    @Test
+    void testExecuteQuery_CountsRowsAsIterated() throws SQLException {
+        RequestTrace trace = RequestTrace.start("GET /test", 10);
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT id FROM traced WHERE id >= ?")) {
+            statement.setInt(1, 2);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    // iterate
+                }
+            }
+        }
+
+        Map<String, Object> span = onlySqlSpan(trace);
+        assertEquals("SELECT id FROM traced WHERE id >= ?", span.get("name"));
+        assertEquals(2L, span.get("rows"));
+    }
+
+    @Test
+    void testExecuteUpdate_CountsAffectedRows() throws SQLException {
+        RequestTrace trace = RequestTrace.start("PUT /test", 10);
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("UPDATE traced SET name = 'x' WHERE id <= 2")) {
+            assertEquals(2, statement.executeUpdate());
+        }
+
+        assertEquals(2L, onlySqlSpan(trace).get("rows"));
+    }
+
+    @Test
+    void testExecuteBatch_SumsBatchCounts() throws SQLException {
+        RequestTrace trace = RequestTrace.start("POST /test", 10);
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.addBatch("UPDATE traced SET name = 'y' WHERE id = 1");
+            statement.addBatch("UPDATE traced SET name = 'y' WHERE id > 1");
+            statement.executeBatch();
+        }
+
+        Map<String, Object> span = onlySqlSpan(trace);
+        assertEquals("(batch)", span.get("name"));
+        assertEquals(3L, span.get("rows"));
+    }
+
+    @Test
+    void testFailedStatement_MarksError() throws SQLException {
+        RequestTrace trace = RequestTrace.start("GET /test", 10);
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            assertThrows(SQLException.class, () -> statement.executeQuery("SELECT missing FROM traced"));
+        }
+
+        Map<String, Object> span = onlySqlSpan(trace);
+        assertEquals("SELECT missing FROM traced", span.get("name"));
+        assertEquals(true, span.get("error"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> onlySqlSpan(RequestTrace trace) {
+        RequestTrace.Span root = trace.finish();
+        List<Map<String, Object>> children = (List<Map<String, Object>>) root.toMap(root.start()).get("children");
+        assertEquals(1, children.size());
+        assertEquals("sql", children.get(0).get("kind"));
+        return children.get(0);
+    }
+}
@@ -0,0 +1,93 @@
+package com.issuetracker.tracing;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TracingFilterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Logger slowRequests = (Logger) LoggerFactory.getLogger("com.issuetracker.tracing.SlowRequests");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        slowRequests.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        slowRequests.detachAppender(appender);
+    }
+
+    @Test
+    void testSlowSampledRequest_LogsOneJsonLine() throws Exception {
+        TracingFilter filter = new TracingFilter(1.0, 20, 100);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/issues");
+        request.setQueryString("status=OPEN");
+
+        filter.doFilter(request, new MockHttpServletResponse(), slowChain(30));
+
+        assertEquals(1, appender.list.size());
+        String line = appender.list.get(0).getFormattedMessage();
+        assertFalse(line.contains("\n"));
+        JsonNode entry = objectMapper.readTree(line);
+        assertEquals("slow-request", entry.path("type").asText());
+        assertEquals("GET", entry.path("method").asText());
+        assertEquals("/api/issues", entry.path("uri").asText());
+        assertEquals("status=OPEN", entry.path("query").asText());
+        assertTrue(entry.path("durationMs").asLong() >= 30);
+        assertEquals(1, entry.path("sqlStatements").asLong());
+        JsonNode service = entry.path("spans").path("children").get(0);
+        assertEquals("IssueService.getIssues", service.path("name").asText());
+        assertEquals(4, service.path("children").get(0).path("rows").asLong());
+        assertFalse(RequestTrace.isActive());
+    }
+
+    @Test
+    void testFastRequest_LogsNothing() throws Exception {
+        TracingFilter filter = new TracingFilter(1.0, 10_000, 100);
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/issues"), new MockHttpServletResponse(), slowChain(0));
+
+        assertTrue(appender.list.isEmpty());
+    }
+
+    @Test
+    void testUnsampledRequest_IsNotTraced() throws Exception {
+        TracingFilter filter = new TracingFilter(0, 0, 100);
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/issues"), new MockHttpServletResponse(),
+            (request, response) -> assertFalse(RequestTrace.isActive()));
+
+        assertTrue(appender.list.isEmpty());
+    }
+
+    // A service span with one SQL span under it, taking at least sleepMs
+    private static FilterChain slowChain(long sleepMs) {
+        return (request, response) -> {
+            RequestTrace.Span service = RequestTrace.begin("service", "IssueService.getIssues");
+            RequestTrace.Span sql = RequestTrace.begin("sql", "select ...");
+            sql.addRows(4);
+            RequestTrace.end(sql);
+            try {
+                Thread.sleep(sleepMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            RequestTrace.end(service);
+        };
+    }
+}
@@ -0,0 +1,72 @@
+package com.issuetracker.util;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Records the SQL statements Hibernate prepares on the current thread, so integration tests can
+ * cap the number of statements an endpoint issues and catch N+1 lazy loading. Registered for the
+ * test profile as {@code hibernate.session_factory.statement_inspector}.
+ *
+ * Only threads that called {@link #start()} are recorded; scheduled jobs running alongside the
+ * test are ignored. MockMvc handles the request on the test thread, so a typical use is:
+ *
+ * <pre>
+ * QueryCounter.start(entityManager);
+ * mockMvc.perform(...);
+ * QueryCounter.assertAtMost(2);
+ * </pre>
+ */
+public class QueryCounter implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> STATEMENTS = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        List<String> statements = STATEMENTS.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+
+    /** Starts (or restarts) recording on this thread. */
+    public static void start() {
+        STATEMENTS.set(new ArrayList<>());
+    }
+
+    /**
+     * Flushes and clears the test's persistence context first, so the setup's inserts are not
+     * counted and lazy associations are not already loaded, then starts recording.
+     */
+    public static void start(EntityManager entityManager) {
+        entityManager.flush();
+        entityManager.clear();
+        start();
+    }
+
+    /** Statements recorded on this thread since {@link #start()}. */
+    public static List<String> statements() {
+        List<String> statements = STATEMENTS.get();
+        return statements != null ? List.copyOf(statements) : List.of();
+    }
+
+    public static int count() {
+        return statements().size();
+    }
+
+    /** Fails, listing the statements, if more than {@code max} were recorded; then stops recording. */
+    public static void assertAtMost(int max) {
+        List<String> statements = statements();
+        STATEMENTS.remove();
+        if (statements.size() > max) {
+            fail("Expected at most " + max + " SQL statement(s) but " + statements.size() + " were issued:\n  "
+                + String.join("\n  ", statements));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.issuetracker.util;
+
+import com.issuetracker.model.User;
+import com.issuetracker.repository.UserRepository;
+
+/**
+ * Extra users for integration tests that need rows, not logins (owners, creators, authors).
+ */
+public final class TestUsers {
+
+    private TestUsers() {
+    }
+
+    /** Saves a user whose password can't be used to log in. */
+    public static User save(UserRepository userRepository, String email, String name) {
+        User user = new User();
+        user.setEmail(email);
+        user.setName(name);
+        user.setPassword("unused");
+        return userRepository.save(user);
+    }
+}
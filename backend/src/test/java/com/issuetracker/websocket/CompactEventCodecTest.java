@@ -0,0 +1,71 @@
+package com.issuetracker.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.issuetracker.dto.ActivityLogUpdateEvent;
+import com.issuetracker.dto.CommentUpdateEvent;
+import com.issuetracker.dto.IssueUpdateEvent;
+import com.issuetracker.model.ActivityType;
+import com.issuetracker.model.IssuePriority;
+import com.issuetracker.model.IssueStatus;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactEventCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CompactEventCodec codec = new CompactEventCodec();
+
+    @Test
+    void testRoundTrip_EventPayloads() throws Exception {
+        assertRoundTrip(new IssueUpdateEvent("UPDATED", 42L, "Login fails – \"quoted\"",
+            IssueStatus.IN_PROGRESS, IssuePriority.HIGH, 7L));
+        assertRoundTrip(new CommentUpdateEvent("CREATED", 3L, 42L, "Line one\nline two", 9L, "Jane Doe"));
+        assertRoundTrip(new ActivityLogUpdateEvent("CREATED", 5L, 42L, ActivityType.STATUS_CHANGED,
+            9L, "Jane Doe", "OPEN", null));
+    }
+
+    @Test
+    void testEncode_UsesFieldIdsForKnownFields() throws Exception {
+        byte[] json = objectMapper.writeValueAsBytes(new IssueUpdateEvent("UPDATED", 42L, "Title",
+            IssueStatus.OPEN, IssuePriority.LOW, 7L));
+
+        byte[] cbor = codec.encode(json);
+
+        assertTrue(cbor.length < json.length);
+        String raw = new String(cbor, StandardCharsets.ISO_8859_1);
+        assertFalse(raw.contains("issueId"));
+        assertFalse(raw.contains("projectId"));
+    }
+
+    @Test
+    void testRoundTrip_UnknownAndNestedFields() throws Exception {
+        byte[] json = "{\"issueId\":1,\"labels\":[\"a\",\"b\"],\"meta\":{\"status\":\"OPEN\",\"weight\":1.5},\"flag\":true}"
+            .getBytes(StandardCharsets.UTF_8);
+
+        byte[] cbor = codec.encode(json);
+
+        assertTrue(new String(cbor, StandardCharsets.ISO_8859_1).contains("labels"));
+        assertEquals(objectMapper.readTree(json), objectMapper.readTree(codec.decode(cbor)));
+    }
+
+    @Test
+    void testFieldIds_AreAppendOnly() {
+        // Ids are part of the client contract; these must never move
+        assertEquals("eventType", CompactEventCodec.FIELDS.get(0));
+        assertEquals("projectId", CompactEventCodec.FIELDS.get(5));
+        assertEquals("newValue", CompactEventCodec.FIELDS.get(15));
+    }
+
+    private void assertRoundTrip(Object event) throws Exception {
+        byte[] json = objectMapper.writeValueAsBytes(event);
+        JsonNode expected = objectMapper.readTree(json);
+
+        JsonNode decoded = objectMapper.readTree(codec.decode(codec.encode(json)));
+
+        assertEquals(expected, decoded);
+    }
+}
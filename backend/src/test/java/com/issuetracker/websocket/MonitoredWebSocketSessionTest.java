@@ -0,0 +1,154 @@
+package com.issuetracker.websocket;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator.OverflowStrategy;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class MonitoredWebSocketSessionTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService sender = Executors.newSingleThreadExecutor();
+
+    // The first write blocks until released, so everything sent meanwhile is buffered by Spring
+    private final CountDownLatch writing = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private WebSocketSessionMonitor monitor;
+    private WebSocketSession delegate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        monitor = new WebSocketSessionMonitor();
+        ReflectionTestUtils.setField(monitor, "meterRegistry", meterRegistry);
+
+        delegate = mock(WebSocketSession.class);
+        when(delegate.getId()).thenReturn("session-1");
+        when(delegate.isOpen()).thenReturn(true);
+        doAnswer(invocation -> {
+            if (writing.getCount() > 0) {
+                writing.countDown();
+                assertTrue(release.await(5, TimeUnit.SECONDS));
+            }
+            return null;
+        }).when(delegate).sendMessage(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        sender.shutdownNow();
+    }
+
+    @Test
+    void testDropPolicy_DiscardsOldestAndCountsBytes() throws Exception {
+        ConcurrentWebSocketSessionDecorator session = register(OverflowStrategy.DROP, 10_000, 10);
+        Future<?> first = startBlockedWrite(session);
+
+        for (int i = 2; i <= 6; i++) {
+            session.sendMessage(new TextMessage("msg" + i));
+        }
+        // 4 bytes each, limit 10: only the two newest stay buffered
+        assertEquals(8, session.getBufferSize());
+        assertEquals(8, meterRegistry.get("websocket.session.buffer.max").gauge().value());
+
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of("msg1", "msg5", "msg6"), sentPayloads(3));
+        assertEquals(12, meterRegistry.get("websocket.session.dropped").counter().count());
+        assertEquals(3, meterRegistry.get("websocket.session.send").timer().count());
+        verify(delegate, never()).close(any());
+    }
+
+    @Test
+    void testTerminatePolicy_ThrowsOnOverflowAndCountsBufferLimit() throws Exception {
+        ConcurrentWebSocketSessionDecorator session = register(OverflowStrategy.TERMINATE, 10_000, 10);
+        Future<?> first = startBlockedWrite(session);
+
+        session.sendMessage(new TextMessage("msg2"));
+        session.sendMessage(new TextMessage("msg3"));
+        assertThrows(SessionLimitExceededException.class, () -> session.sendMessage(new TextMessage("msg4")));
+
+        // Nothing more is buffered or written once the limit was exceeded
+        session.sendMessage(new TextMessage("msg5"));
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of("msg1"), sentPayloads(1));
+        assertEquals(1, terminated("buffer-size"));
+        assertEquals(0, terminated("send-time"));
+        assertEquals(0, meterRegistry.get("websocket.session.dropped").counter().count());
+    }
+
+    @Test
+    void testSendTimeLimit_CountsTimeout() throws Exception {
+        ConcurrentWebSocketSessionDecorator session = register(OverflowStrategy.TERMINATE, 50, 1024);
+        startBlockedWrite(session);
+
+        Thread.sleep(100);
+        assertTrue(meterRegistry.get("websocket.session.send.in-flight.max").gauge().value() >= 100);
+        assertThrows(SessionLimitExceededException.class, () -> session.sendMessage(new TextMessage("msg2")));
+
+        assertEquals(1, terminated("send-time"));
+        assertEquals(0, terminated("buffer-size"));
+    }
+
+    @Test
+    void testUnregister_RemovesSessionFromGauges() throws Exception {
+        register(OverflowStrategy.TERMINATE, 10_000, 1024);
+        assertEquals(1, meterRegistry.get("websocket.sessions").gauge().value());
+
+        monitor.unregister("session-1");
+
+        assertEquals(0, meterRegistry.get("websocket.sessions").gauge().value());
+    }
+
+    private ConcurrentWebSocketSessionDecorator register(OverflowStrategy strategy, int sendTimeLimit, int bufferSizeLimit) {
+        ReflectionTestUtils.setField(monitor, "overflowStrategy", strategy);
+        monitor.init();
+        return monitor.register(delegate, sendTimeLimit, bufferSizeLimit);
+    }
+
+    // Sends msg1 on another thread and returns once its write is in progress
+    private Future<?> startBlockedWrite(ConcurrentWebSocketSessionDecorator session) throws Exception {
+        Future<?> future = sender.submit(() -> {
+            session.sendMessage(new TextMessage("msg1"));
+            return null;
+        });
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        return future;
+    }
+
+    private double terminated(String limit) {
+        return meterRegistry.get("websocket.session.terminated").tag("limit", limit).counter().count();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private List<String> sentPayloads(int count) throws Exception {
+        ArgumentCaptor<WebSocketMessage> captor = ArgumentCaptor.forClass(WebSocketMessage.class);
+        verify(delegate, times(count)).sendMessage(captor.capture());
+        return captor.getAllValues().stream()
+            .map(message -> ((TextMessage) message).getPayload())
+            .toList();
+    }
+}
@@ -7,7 +7,7 @@ import { ProjectService, Project } from '../../services/project.service';
 import { CommentService, Comment } from '../../services/comment.service';
 import { ActivityLogService, ActivityLog } from '../../services/activity-log.service';
 import { AuthService } from '../../services/auth.service';
-import { WebSocketService, CommentUpdateEvent, IssueUpdateEvent, ActivityLogUpdateEvent } from '../../services/websocket.service';
+import { WebSocketService, CommentUpdateEvent, IssueUpdateEvent, ActivityLogUpdateEvent, IssueSnapshot } from '../../services/websocket.service';
 import { Subscription } from 'rxjs';
 import { filter, take } from 'rxjs/operators';
 
@@ -41,6 +41,12 @@ export class IssueDetailComponent implements OnInit, OnDestroy {
   private commentUpdateSubscription?: Subscription;
   private issueUpdateSubscription?: Subscription;
   private activityLogUpdateSubscription?: Subscription;
+  private snapshotSubscription?: Subscription;
+  // Set while waiting for the WebSocket snapshot; events arriving meanwhile are buffered
+  private awaitingSnapshot = false;
+  private snapshotSequence: number | null = null;
+  private pendingCommentEvents: CommentUpdateEvent[] = [];
+  private pendingActivityEvents: ActivityLogUpdateEvent[] = [];
   
   editData: any = {
     title: '',
@@ -62,10 +68,66 @@ export class IssueDetailComponent implements OnInit, OnDestroy {
   ngOnInit() {
     const id = this.route.snapshot.paramMap.get('id');
     if (id) {
-      this.loadIssue(+id);
+      if (this.wsService.isConnected()) {
+        this.loadSnapshot(+id);
+      } else {
+        this.loadIssue(+id);
+      }
     }
   }
 
+  // Loads issue, comments and activity in one WebSocket round trip, consistent with the live events
+  private loadSnapshot(id: number) {
+    this.loading = true;
+    this.errorMessage = '';
+    this.awaitingSnapshot = true;
+    this.snapshotSequence = null;
+    this.pendingCommentEvents = [];
+    this.pendingActivityEvents = [];
+
+    // Topic subscriptions go out before the snapshot request so no later event is missed
+    this.subscribeToCommentUpdates(id);
+    this.subscribeToActivityLogUpdates(id);
+
+    this.snapshotSubscription = this.wsService.getIssueSnapshot(id).subscribe({
+      next: (snapshot: IssueSnapshot) => {
+        this.awaitingSnapshot = false;
+        if (!snapshot.issue) {
+          this.errorMessage = 'Failed to load issue';
+          this.loading = false;
+          return;
+        }
+        this.issue = snapshot.issue;
+        this.editData = {
+          title: snapshot.issue.title,
+          description: snapshot.issue.description || '',
+          status: snapshot.issue.status,
+          priority: snapshot.issue.priority
+        };
+        this.comments = snapshot.comments?.content || [];
+        this.activityLogs = snapshot.activities?.content || [];
+        this.snapshotSequence = snapshot.sequence;
+        this.loading = false;
+
+        this.pendingCommentEvents.forEach(event => this.handleCommentUpdate(event));
+        this.pendingActivityEvents.forEach(event => this.handleActivityLogUpdate(event));
+        this.pendingCommentEvents = [];
+        this.pendingActivityEvents = [];
+        this.setupIssueWebSocketSubscription();
+      },
+      error: (error: any) => {
+        console.warn('Snapshot failed, loading over REST:', error);
+        this.awaitingSnapshot = false;
+        this.loadIssue(id);
+      }
+    });
+  }
+
+  // True for events already contained in the snapshot
+  private isBeforeSnapshot(seq: number | undefined): boolean {
+    return this.snapshotSequence !== null && seq !== undefined && seq <= this.snapshotSequence;
+  }
+
   loadIssue(id: number) {
     this.loading = true;
     this.errorMessage = '';
@@ -127,10 +189,23 @@ export class IssueDetailComponent implements OnInit, OnDestroy {
   }
 
   private handleCommentUpdate(event: CommentUpdateEvent) {
+    if (this.awaitingSnapshot) {
+      this.pendingCommentEvents.push(event);
+      return;
+    }
+    if (this.isBeforeSnapshot(event.seq)) {
+      return;
+    }
     if (event.eventType === 'CREATED') {
-      // Reload comments to get the new comment with full data
-      if (this.issue) {
-        this.loadComments(this.issue.id);
+      // The event carries everything the list shows; skip it if we already have the comment
+      if (!this.comments.some(c => c.id === event.commentId)) {
+        this.comments = [...this.comments, {
+          id: event.commentId,
+          content: event.content || '',
+          authorId: event.authorId!,
+          authorName: event.authorName || '',
+          createdAt: new Date().toISOString()
+        }];
       }
     } else if (event.eventType === 'UPDATED') {
       // Update the comment in the list
@@ -172,6 +247,9 @@ export class IssueDetailComponent implements OnInit, OnDestroy {
     if (this.activityLogUpdateSubscription) {
       this.activityLogUpdateSubscription.unsubscribe();
     }
+    if (this.snapshotSubscription) {
+      this.snapshotSubscription.unsubscribe();
+    }
     // Unsubscribe from WebSocket topics when component is destroyed
     if (this.issue) {
       this.wsService.unsubscribeFromComments(this.issue.id);
@@ -408,10 +486,7 @@ export class IssueDetailComponent implements OnInit, OnDestroy {
   private subscribeToActivityLogUpdates(issueId: number) {
     this.activityLogUpdateSubscription = this.wsService.getActivityLogUpdates(issueId).subscribe({
       next: (event: ActivityLogUpdateEvent) => {
-        if (event.eventType === 'CREATED') {
-          // Reload activity logs to get the new entry
-          this.loadActivityLogs(issueId);
-        }
+        this.handleActivityLogUpdate(event);
       },
       error: (error) => {
         console.warn('Activity log WebSocket subscription error (non-critical):', error);
@@ -419,6 +494,28 @@ export class IssueDetailComponent implements OnInit, OnDestroy {
     });
   }
 
+  private handleActivityLogUpdate(event: ActivityLogUpdateEvent) {
+    if (this.awaitingSnapshot) {
+      this.pendingActivityEvents.push(event);
+      return;
+    }
+    if (this.isBeforeSnapshot(event.seq) || event.eventType !== 'CREATED') {
+      return;
+    }
+    if (!this.activityLogs.some(log => log.id === event.activityLogId)) {
+      // Newest first, like the activity endpoint
+      this.activityLogs = [{
+        id: event.activityLogId,
+        activityType: event.activityType,
+        userId: event.userId,
+        userName: event.userName,
+        oldValue: event.oldValue,
+        newValue: event.newValue,
+        createdAt: new Date().toISOString()
+      }, ...this.activityLogs];
+    }
+  }
+
   formatActivityType(activityType: string): string {
     return activityType
       .replace(/_/g, ' ')
@@ -2,6 +2,17 @@ import { Injectable } from '@angular/core';
 import { HttpClient, HttpParams } from '@angular/common/http';
 import { Observable } from 'rxjs';
 
+export interface ProjectStats {
+  open: number;
+  inProgress: number;
+  closed: number;
+  low: number;
+  medium: number;
+  high: number;
+  critical: number;
+  total: number;
+}
+
 export interface Project {
   id: number;
   name: string;
@@ -9,6 +20,17 @@ export interface Project {
   ownerName: string;
   createdAt: string;
   updatedAt?: string;
+  stats?: ProjectStats;
+}
+
+export interface ProjectDeletion {
+  projectId: number;
+  projectName: string;
+  status: 'IN_PROGRESS' | 'COMPLETED';
+  issuesTotal: number;
+  issuesDeleted: number;
+  percentComplete: number;
+  completedAt?: string;
 }
 
 export interface CreateProjectRequest {
@@ -49,7 +71,7 @@ export class ProjectService {
     return this.http.put<Project>(`${this.apiUrl}/${id}`, project);
   }
 
-  deleteProject(id: number): Observable<void> {
-    return this.http.delete<void>(`${this.apiUrl}/${id}`);
+  deleteProject(id: number): Observable<ProjectDeletion> {
+    return this.http.delete<ProjectDeletion>(`${this.apiUrl}/${id}`);
   }
 }
@@ -2,6 +2,10 @@ import { Injectable } from '@angular/core';
 import { Observable, Subject, BehaviorSubject } from 'rxjs';
 import { Client } from '@stomp/stompjs';
 import SockJS from 'sockjs-client';
+import { Issue, PageResponse } from './issue.service';
+import { Comment } from './comment.service';
+import { ActivityLog } from './activity-log.service';
+import { AuthService } from './auth.service';
 
 export interface IssueUpdateEvent {
   eventType: 'CREATED' | 'UPDATED' | 'DELETED';
@@ -19,6 +23,7 @@ export interface CommentUpdateEvent {
   content?: string;
   authorId?: number;
   authorName?: string;
+  seq?: number; // Bus sequence from the event-seq header
 }
 
 export interface ActivityLogUpdateEvent {
@@ -30,6 +35,16 @@ export interface ActivityLogUpdateEvent {
   userName: string;
   oldValue: string | null;
   newValue: string | null;
+  seq?: number;
+}
+
+// Reply to /app/issues/{issueId}/snapshot: apply only events with seq > sequence on top of it
+export interface IssueSnapshot {
+  issueId: number;
+  issue: Issue | null;
+  comments: PageResponse<Comment> | null;
+  activities: PageResponse<ActivityLog> | null;
+  sequence: number;
 }
 
 @Injectable({
@@ -51,7 +66,7 @@ export class WebSocketService {
   private reconnectDelay = 3000;
   private isConnecting = false;
 
-  constructor() {
+  constructor(private authService: AuthService) {
     // Delay connection to avoid blocking app initialization
     setTimeout(() => {
       try {
@@ -77,6 +92,13 @@ export class WebSocketService {
         reconnectDelay: this.reconnectDelay,
         heartbeatIncoming: 4000,
         heartbeatOutgoing: 4000,
+        // Runs before every (re)connect so the current token is sent; the snapshot needs an authenticated session
+        beforeConnect: () => {
+          const token = this.authService.getToken();
+          if (this.stompClient) {
+            this.stompClient.connectHeaders = token ? { Authorization: `Bearer ${token}` } : {};
+          }
+        },
         debug: (str: string) => {
           // Uncomment for debugging: console.log('STOMP:', str);
         },
@@ -181,6 +203,7 @@ export class WebSocketService {
     const subscription = this.stompClient.subscribe(topic, (message) => {
       try {
         const event: CommentUpdateEvent = JSON.parse(message.body);
+        event.seq = this.sequenceOf(message);
         // Verify the event is for this issue (safety check)
         if (event.issueId === issueId) {
           this.commentUpdates$.next(event);
@@ -223,6 +246,7 @@ export class WebSocketService {
     const subscription = this.stompClient.subscribe(topic, (message) => {
       try {
         const event: ActivityLogUpdateEvent = JSON.parse(message.body);
+        event.seq = this.sequenceOf(message);
         if (event.issueId === issueId) {
           this.activityLogUpdates$.next(event);
         }
@@ -243,6 +267,33 @@ export class WebSocketService {
     }
   }
 
+  /**
+   * One-shot snapshot of an issue detail view. Subscribe to the comment and activity topics first
+   * (getCommentUpdates / getActivityLogUpdates) so no event after the snapshot is missed.
+   */
+  getIssueSnapshot(issueId: number): Observable<IssueSnapshot> {
+    return new Observable<IssueSnapshot>(observer => {
+      if (!this.stompClient || !this.stompClient.connected) {
+        observer.error(new Error('WebSocket not connected'));
+        return;
+      }
+      const subscription = this.stompClient.subscribe(`/app/issues/${issueId}/snapshot`, (message) => {
+        try {
+          observer.next(JSON.parse(message.body));
+          observer.complete();
+        } catch (error) {
+          observer.error(error);
+        }
+      });
+      return () => subscription.unsubscribe();
+    });
+  }
+
+  private sequenceOf(message: { headers: { [key: string]: string } }): number | undefined {
+    const seq = message.headers['event-seq'];
+    return seq !== undefined ? Number(seq) : undefined;
+  }
+
   getConnectionStatus(): Observable<boolean> {
     return this.connectionStatus$.asObservable();
   }